@@ -0,0 +1,169 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.logback.appender.bench;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.spi.ContextAwareBase;
+import de.fhg.igd.slf4jplus.logback.LogObserver;
+import de.fhg.igd.slf4jplus.logback.appender.StatusServiceImpl;
+
+/**
+ * Measures the throughput of publishing events to the observers of a
+ * {@link StatusServiceImpl} with 1 to 64 publishing threads. For comparison
+ * the same is measured with publishing serialized by a single lock, like it
+ * was before publishing became lock-free. Run it with the bundle classes,
+ * slf4j and Logback on the class path.
+ * 
+ * @author Simon Templer
+ */
+public class PublishContention {
+	
+	private static final int OBSERVERS = 4;
+	
+	private static final long DURATION_MILLIS = 1000;
+	
+	private static final int MAX_THREADS = 64;
+	
+	/**
+	 * Observer that counts the events, each counter is only updated by
+	 * one publishing thread at a time to keep the observer cheap
+	 */
+	private static class CountingObserver implements LogObserver {
+		
+		private long count;
+
+		@Override
+		public void onEvent(LoggingEvent event) {
+			count++;
+		}
+		
+	}
+	
+	/**
+	 * Publishes events to a status service
+	 */
+	private interface Publisher {
+		
+		public void publish(LoggingEvent event);
+		
+	}
+
+	/**
+	 * Run the benchmark
+	 * 
+	 * @param args ignored
+	 */
+	public static void main(String[] args) throws InterruptedException {
+		final StatusServiceImpl service = new StatusServiceImpl(new ContextAwareBase());
+		for (int i = 0; i < OBSERVERS; i++) {
+			service.addObserver(new CountingObserver());
+		}
+		
+		Publisher lockFree = new Publisher() {
+			
+			@Override
+			public void publish(LoggingEvent event) {
+				service.publishEvent(event);
+			}
+			
+		};
+		
+		final Object lock = new Object();
+		Publisher locked = new Publisher() {
+			
+			@Override
+			public void publish(LoggingEvent event) {
+				synchronized (lock) {
+					service.publishEvent(event);
+				}
+			}
+			
+		};
+		
+		// warm up
+		run(lockFree, 4);
+		run(locked, 4);
+		
+		System.out.println("threads\tlock-free events/s\tlocked events/s");
+		for (int threads = 1; threads <= MAX_THREADS; threads *= 2) {
+			System.out.println(threads + "\t" + run(lockFree, threads) + "\t"
+					+ run(locked, threads));
+		}
+		
+		service.stop();
+	}
+	
+	/**
+	 * Publish events with the given number of threads
+	 * 
+	 * @param publisher the publisher
+	 * @param threads the number of publishing threads
+	 * 
+	 * @return the number of events published per second
+	 */
+	private static long run(final Publisher publisher, int threads)
+			throws InterruptedException {
+		final LoggerContext context = new LoggerContext();
+		final AtomicLong published = new AtomicLong();
+		final CountDownLatch start = new CountDownLatch(1);
+		final CountDownLatch done = new CountDownLatch(threads);
+		final long[] end = new long[1];
+		
+		for (int i = 0; i < threads; i++) {
+			Thread thread = new Thread(new Runnable() {
+				
+				@Override
+				public void run() {
+					LoggingEvent event = new LoggingEvent(PublishContention.class.getName(),
+							context.getLogger("bench"), Level.INFO, "message", null, null);
+					long count = 0;
+					try {
+						start.await();
+						while (System.currentTimeMillis() < end[0]) {
+							for (int j = 0; j < 100; j++) {
+								publisher.publish(event);
+							}
+							count += 100;
+						}
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+					published.addAndGet(count);
+					done.countDown();
+				}
+				
+			});
+			thread.start();
+		}
+		
+		end[0] = System.currentTimeMillis() + DURATION_MILLIS;
+		start.countDown();
+		done.await();
+		return published.get() * 1000 / DURATION_MILLIS;
+	}
+
+}
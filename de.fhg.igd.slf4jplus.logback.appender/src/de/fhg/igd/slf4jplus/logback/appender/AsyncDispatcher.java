@@ -0,0 +1,417 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.logback.appender;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.spi.ContextAware;
+import de.fhg.igd.slf4jplus.logback.BatchLogObserver;
+import de.fhg.igd.slf4jplus.logback.LogObserver;
+import de.fhg.igd.slf4jplus.logback.OverflowPolicy;
+
+/**
+ * Passes logging events to an observer on a dedicated thread. Events are
+ * queued in a {@link RingBuffer}, what happens if it is full is determined
+ * by the {@link OverflowPolicy}. Events published on the dispatcher thread
+ * itself, e.g. by an observer that logs, are delivered right away. If the
+ * dispatcher thread dies because an observer throws an {@link Error}, it stops
+ * accepting events, so they are published synchronously instead. Events
+ * queued by publishers racing with {@link #stop(long)} are delivered by the
+ * dispatcher thread before it terminates, or after it terminated by the
+ * publisher, so events are never delivered concurrently.
+ * A {@link BatchLogObserver} may be passed several queued events at once.
+ * 
+ * @author Simon Templer
+ */
+public class AsyncDispatcher implements Runnable {
+	
+	/**
+	 * Time a publisher waits before retrying to queue an event if the
+	 * buffer is full
+	 */
+	private static final long PUBLISHER_WAIT_NANOS = 10000;
+	
+	/**
+	 * Maximum time the dispatcher thread is parked with the
+	 * {@link WaitStrategy#BLOCKING} strategy before checking for events
+	 */
+	private static final long MAX_PARK_NANOS = 10000000;
+	
+	private final LogObserver target;
+	
+	private final ContextAware owner;
+	
+	private final RingBuffer<LoggingEvent> buffer;
+	
+	private final WaitStrategy waitStrategy;
+	
+	private final OverflowPolicy overflowPolicy;
+	
+	private final Level dropThreshold;
+	
+	private final BatchLogObserver batchTarget;
+	
+	private final int maxBatchSize;
+	
+	private final long maxLingerNanos;
+	
+	private final AtomicLong dropped = new AtomicLong();
+	
+	/**
+	 * Lock for delivering the events queued after the dispatcher thread
+	 * terminated
+	 */
+	private final Object terminationLock = new Object();
+	
+	private volatile boolean running;
+	
+	private volatile boolean waiting;
+	
+	private volatile boolean terminated;
+	
+	private Thread thread;
+
+	/**
+	 * Create a dispatcher
+	 * 
+	 * @param target the observer to pass the events to
+	 * @param owner the component to report errors to
+	 * @param capacity the buffer capacity
+	 * @param waitStrategy the strategy for waiting for events
+	 * @param overflowPolicy the policy if the buffer is full
+	 * @param dropThreshold the level below which events may be dropped
+	 *   with {@link OverflowPolicy#DROP_BELOW_LEVEL}
+	 */
+	public AsyncDispatcher(LogObserver target, ContextAware owner, int capacity,
+			WaitStrategy waitStrategy, OverflowPolicy overflowPolicy,
+			Level dropThreshold) {
+		this(target, owner, capacity, waitStrategy, overflowPolicy,
+				dropThreshold, 1, 0);
+	}
+
+	/**
+	 * Create a dispatcher that delivers events in batches if the target is a
+	 * {@link BatchLogObserver}
+	 * 
+	 * @param target the observer to pass the events to
+	 * @param owner the component to report errors to
+	 * @param capacity the buffer capacity
+	 * @param waitStrategy the strategy for waiting for events
+	 * @param overflowPolicy the policy if the buffer is full
+	 * @param dropThreshold the level below which events may be dropped
+	 *   with {@link OverflowPolicy#DROP_BELOW_LEVEL}
+	 * @param maxBatchSize the maximum number of events per batch
+	 * @param maxLingerTime the maximum time to wait for further events
+	 *   before delivering an incomplete batch, in milliseconds
+	 */
+	public AsyncDispatcher(LogObserver target, ContextAware owner, int capacity,
+			WaitStrategy waitStrategy, OverflowPolicy overflowPolicy,
+			Level dropThreshold, int maxBatchSize, long maxLingerTime) {
+		super();
+		this.target = target;
+		this.owner = owner;
+		this.buffer = new RingBuffer<LoggingEvent>(capacity);
+		this.waitStrategy = waitStrategy;
+		this.overflowPolicy = overflowPolicy;
+		this.dropThreshold = dropThreshold;
+		if (maxBatchSize > 1 && target instanceof BatchLogObserver) {
+			this.batchTarget = (BatchLogObserver) target;
+			this.maxBatchSize = maxBatchSize;
+			this.maxLingerNanos = Math.max(0, maxLingerTime) * 1000000;
+		}
+		else {
+			this.batchTarget = null;
+			this.maxBatchSize = 1;
+			this.maxLingerNanos = 0;
+		}
+	}
+	
+	/**
+	 * Start the dispatcher thread
+	 * 
+	 * @param name the thread name
+	 */
+	public void start(String name) {
+		Thread thread = new Thread(this, name);
+		thread.setDaemon(true);
+		start(thread);
+	}
+	
+	/**
+	 * Start the dispatcher thread
+	 * 
+	 * @param threadFactory the factory to create the thread with
+	 */
+	public void start(ThreadFactory threadFactory) {
+		start(threadFactory.newThread(this));
+	}
+	
+	private void start(Thread thread) {
+		running = true;
+		this.thread = thread;
+		thread.start();
+	}
+	
+	/**
+	 * Stop the dispatcher thread after it delivered the queued events
+	 * 
+	 * @param maxFlushTime the maximum time to wait for the queued events
+	 *   to be delivered, in milliseconds, if it is not positive the method
+	 *   doesn't wait
+	 * 
+	 * @return the number of events that were not delivered yet
+	 */
+	public int stop(long maxFlushTime) {
+		running = false;
+		if (thread != null) {
+			LockSupport.unpark(thread);
+			if (maxFlushTime > 0) {
+				try {
+					thread.join(maxFlushTime);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+		return buffer.size();
+	}
+	
+	/**
+	 * Queue an event for delivery
+	 * 
+	 * @param event the event, it must be prepared for deferred processing
+	 * 
+	 * @return if the event was queued, delivered or dropped, <code>false</code>
+	 *   if the dispatcher is not running
+	 */
+	public boolean publish(LoggingEvent event) {
+		if (!running) {
+			return false;
+		}
+		if (Thread.currentThread() == thread) {
+			// waiting for room in the buffer would block the dispatcher
+			deliver(event);
+			return true;
+		}
+		
+		while (!buffer.offer(event)) {
+			if (overflowPolicy == OverflowPolicy.DROP_OLDEST) {
+				if (buffer.poll() != null) {
+					dropped.incrementAndGet();
+				}
+			}
+			else if (overflowPolicy == OverflowPolicy.DROP_BELOW_LEVEL
+					&& !event.getLevel().isGreaterOrEqual(dropThreshold)) {
+				dropped.incrementAndGet();
+				return true;
+			}
+			else if (!running) {
+				return false;
+			}
+			else {
+				LockSupport.parkNanos(PUBLISHER_WAIT_NANOS);
+			}
+		}
+		
+		if (terminated) {
+			// the dispatcher thread may have terminated before the event was queued
+			deliverRemaining();
+		}
+		else if (waiting) {
+			LockSupport.unpark(thread);
+		}
+		return true;
+	}
+	
+	/**
+	 * @return the number of events dropped because the buffer was full or
+	 *   the dispatcher thread terminated unexpectedly
+	 */
+	public long getDroppedCount() {
+		return dropped.get();
+	}
+	
+	/**
+	 * @return the number of queued events
+	 */
+	public int getQueueSize() {
+		return buffer.size();
+	}
+
+	/**
+	 * Deliver the queued events until the dispatcher is stopped
+	 * 
+	 * @see Runnable#run()
+	 */
+	@Override
+	public void run() {
+		boolean completed = false;
+		try {
+			if (batchTarget != null) {
+				runBatched();
+			}
+			else {
+				runSingle();
+			}
+			completed = true;
+		} catch (Error e) {
+			owner.addError("Log dispatcher thread terminated", e);
+			throw e;
+		} finally {
+			if (completed) {
+				terminated = true;
+			}
+			else {
+				// publish synchronously from now on, the queued events are lost
+				running = false;
+				terminated = true;
+				synchronized (terminationLock) {
+					while (buffer.poll() != null) {
+						dropped.incrementAndGet();
+					}
+				}
+			}
+		}
+		
+		deliverRemaining();
+	}
+	
+	/**
+	 * Deliver the events queued after the dispatcher thread terminated
+	 * its loop, i.e. by publishers that checked if the dispatcher is running
+	 * just before it was stopped
+	 */
+	private void deliverRemaining() {
+		synchronized (terminationLock) {
+			LoggingEvent event;
+			while ((event = buffer.poll()) != null) {
+				deliver(event);
+			}
+		}
+	}
+	
+	/**
+	 * Deliver the queued events one by one until the dispatcher is stopped
+	 */
+	private void runSingle() {
+		int attempt = 0;
+		while (true) {
+			LoggingEvent event = buffer.poll();
+			if (event != null) {
+				attempt = 0;
+				deliver(event);
+			}
+			else if (!running) {
+				// all events were delivered
+				break;
+			}
+			else if (waitStrategy == WaitStrategy.BLOCKING) {
+				waiting = true;
+				if (buffer.isEmpty() && running) {
+					LockSupport.parkNanos(this, MAX_PARK_NANOS);
+				}
+				waiting = false;
+			}
+			else {
+				waitStrategy.idle(++attempt);
+			}
+		}
+	}
+	
+	/**
+	 * Deliver the queued events in batches until the dispatcher is stopped
+	 */
+	private void runBatched() {
+		List<LoggingEvent> batch = new ArrayList<LoggingEvent>(maxBatchSize);
+		long deadline = 0;
+		int attempt = 0;
+		while (true) {
+			LoggingEvent event = buffer.poll();
+			if (event != null) {
+				attempt = 0;
+				if (batch.isEmpty()) {
+					deadline = System.nanoTime() + maxLingerNanos;
+				}
+				batch.add(event);
+				if (batch.size() >= maxBatchSize) {
+					deliver(batch);
+				}
+				continue;
+			}
+			
+			long remaining = deadline - System.nanoTime();
+			if (!batch.isEmpty() && (!running || remaining <= 0)) {
+				deliver(batch);
+			}
+			else if (!running) {
+				// all events were delivered
+				break;
+			}
+			else if (waitStrategy == WaitStrategy.BLOCKING) {
+				waiting = true;
+				if (buffer.isEmpty() && running) {
+					LockSupport.parkNanos(this, (batch.isEmpty()) ? MAX_PARK_NANOS
+							: Math.min(remaining, MAX_PARK_NANOS));
+				}
+				waiting = false;
+			}
+			else {
+				waitStrategy.idle(++attempt);
+			}
+		}
+	}
+	
+	/**
+	 * Pass a batch of events to the target observer and clear it
+	 * 
+	 * @param batch the events
+	 */
+	private void deliver(List<LoggingEvent> batch) {
+		try {
+			batchTarget.onEvents(batch);
+		} catch (RuntimeException e) {
+			owner.addError("Log observer failed to process events", e);
+		} finally {
+			batch.clear();
+		}
+	}
+	
+	/**
+	 * Pass an event to the target observer
+	 * 
+	 * @param event the event
+	 */
+	private void deliver(LoggingEvent event) {
+		try {
+			target.onEvent(event);
+		} catch (RuntimeException e) {
+			owner.addError("Log observer failed to process event", e);
+		}
+	}
+
+}
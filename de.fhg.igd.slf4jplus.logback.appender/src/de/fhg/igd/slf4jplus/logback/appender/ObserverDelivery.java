@@ -0,0 +1,185 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.logback.appender;
+
+import java.util.concurrent.ThreadFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.spi.ContextAware;
+import de.fhg.igd.slf4jplus.logback.DeliveryOptions;
+import de.fhg.igd.slf4jplus.logback.DeliveryStatistics;
+import de.fhg.igd.slf4jplus.logback.LogObserver;
+import de.fhg.igd.slf4jplus.logback.OverflowPolicy;
+import de.fhg.igd.slf4jplus.logback.Subscription;
+
+/**
+ * Delivers logging events to a registered observer, either directly or
+ * through an {@link AsyncDispatcher}. After the delivery was stopped events
+ * are delivered directly until it is started again.
+ * 
+ * @author Simon Templer
+ */
+public class ObserverDelivery implements DeliveryStatistics {
+	
+	private final LogObserver observer;
+	
+	private final ContextAware owner;
+	
+	private final boolean queued;
+	
+	private final int maxQueueSize;
+	
+	private final OverflowPolicy overflowPolicy;
+	
+	private final Level dropBelowLevel;
+	
+	private final int maxBatchSize;
+	
+	private final long maxLingerTime;
+	
+	private final ThreadFactory threadFactory;
+	
+	private final long maxFlushTime;
+	
+	private volatile AsyncDispatcher dispatcher;
+	
+	private final Subscription subscription;
+	
+	private final boolean filtersBundles;
+
+	/**
+	 * Create the delivery for an observer, for queued delivery the
+	 * dispatcher thread is started
+	 * 
+	 * @param observer the observer
+	 * @param options the delivery options
+	 * @param owner the component to report errors to
+	 */
+	public ObserverDelivery(LogObserver observer, DeliveryOptions options,
+			ContextAware owner) {
+		super();
+		this.observer = observer;
+		this.owner = owner;
+		this.queued = options.isQueued();
+		this.maxQueueSize = options.getMaxQueueSize();
+		this.overflowPolicy = options.getOverflowPolicy();
+		this.dropBelowLevel = options.getDropBelowLevel();
+		this.maxBatchSize = options.getMaxBatchSize();
+		this.maxLingerTime = options.getMaxLingerTime();
+		this.threadFactory = options.getThreadFactory();
+		this.maxFlushTime = options.getMaxFlushTime();
+		this.subscription = (options.getSubscription() == null)
+				? (new Subscription())
+				: (new Subscription(options.getSubscription()));
+		this.filtersBundles = subscription.getBundles() != null;
+		
+		start();
+	}
+	
+	/**
+	 * Start the dispatcher thread for queued delivery if it is not running
+	 */
+	public synchronized void start() {
+		if (queued && dispatcher == null) {
+			AsyncDispatcher dispatcher = new AsyncDispatcher(observer, owner,
+					maxQueueSize, WaitStrategy.BLOCKING, overflowPolicy,
+					dropBelowLevel, maxBatchSize, maxLingerTime);
+			if (threadFactory != null) {
+				dispatcher.start(threadFactory);
+			}
+			else {
+				dispatcher.start("Log observer " + observer.getClass().getSimpleName());
+			}
+			this.dispatcher = dispatcher;
+		}
+	}
+	
+	/**
+	 * @return the observer
+	 */
+	public LogObserver getObserver() {
+		return observer;
+	}
+	
+	/**
+	 * @return the events the observer is interested in
+	 */
+	public Subscription getSubscription() {
+		return subscription;
+	}
+	
+	/**
+	 * @return if the observer is only interested in events from certain
+	 *   bundles
+	 */
+	public boolean filtersBundles() {
+		return filtersBundles;
+	}
+	
+	/**
+	 * Deliver an event to the observer
+	 * 
+	 * @param event the event
+	 */
+	public void publish(LoggingEvent event) {
+		AsyncDispatcher dispatcher = this.dispatcher;
+		if (dispatcher != null) {
+			event.prepareForDeferredProcessing();
+			if (dispatcher.publish(event)) {
+				return;
+			}
+		}
+		
+		observer.onEvent(event);
+	}
+	
+	/**
+	 * Stop the delivery after the queued events were delivered
+	 */
+	public synchronized void stop() {
+		AsyncDispatcher dispatcher = this.dispatcher;
+		if (dispatcher != null) {
+			this.dispatcher = null;
+			dispatcher.stop(maxFlushTime);
+		}
+	}
+
+	/**
+	 * @see DeliveryStatistics#getLag()
+	 */
+	@Override
+	public int getLag() {
+		AsyncDispatcher dispatcher = this.dispatcher;
+		return (dispatcher == null) ? 0 : dispatcher.getQueueSize();
+	}
+
+	/**
+	 * @see DeliveryStatistics#getDroppedCount()
+	 */
+	@Override
+	public long getDroppedCount() {
+		AsyncDispatcher dispatcher = this.dispatcher;
+		return (dispatcher == null) ? 0 : dispatcher.getDroppedCount();
+	}
+
+}
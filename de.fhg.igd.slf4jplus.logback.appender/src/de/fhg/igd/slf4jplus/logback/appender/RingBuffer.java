@@ -0,0 +1,165 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.logback.appender;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock-free queue backed by a preallocated array. Each slot has a
+ * sequence number telling producers and consumers if the slot may be written
+ * or read, so any number of threads can offer and poll concurrently.
+ * 
+ * @author Simon Templer
+ * @param <E> the element type
+ */
+public class RingBuffer<E> {
+	
+	/**
+	 * The maximum capacity, the largest power of two array size
+	 */
+	public static final int MAXIMUM_CAPACITY = 1 << 30;
+	
+	private final Object[] elements;
+	
+	private final AtomicLongArray sequences;
+	
+	private final int mask;
+	
+	private final AtomicLong head = new AtomicLong();
+	
+	private final AtomicLong tail = new AtomicLong();
+
+	/**
+	 * Create a ring buffer
+	 * 
+	 * @param capacity the minimum capacity, it is rounded up to the next
+	 *   power of two
+	 * @throws IllegalArgumentException if the capacity is larger than
+	 *   {@link #MAXIMUM_CAPACITY}
+	 */
+	public RingBuffer(int capacity) {
+		super();
+		
+		if (capacity > MAXIMUM_CAPACITY) {
+			throw new IllegalArgumentException("Capacity " + capacity
+					+ " exceeds the maximum of " + MAXIMUM_CAPACITY);
+		}
+		
+		int size = 2;
+		while (size < capacity) {
+			size <<= 1;
+		}
+		
+		elements = new Object[size];
+		sequences = new AtomicLongArray(size);
+		for (int i = 0; i < size; i++) {
+			sequences.set(i, i);
+		}
+		mask = size - 1;
+	}
+	
+	/**
+	 * Add an element to the buffer if it is not full
+	 * 
+	 * @param element the element to add
+	 * 
+	 * @return if the element was added
+	 */
+	public boolean offer(E element) {
+		long pos = tail.get();
+		while (true) {
+			int index = (int) pos & mask;
+			long diff = sequences.get(index) - pos;
+			if (diff == 0) {
+				if (tail.compareAndSet(pos, pos + 1)) {
+					elements[index] = element;
+					// publish the element
+					sequences.set(index, pos + 1);
+					return true;
+				}
+			}
+			else if (diff < 0) {
+				// the slot wasn't consumed yet
+				return false;
+			}
+			pos = tail.get();
+		}
+	}
+	
+	/**
+	 * Take the oldest element from the buffer
+	 * 
+	 * @return the element or <code>null</code> if the buffer is empty
+	 */
+	@SuppressWarnings("unchecked")
+	public E poll() {
+		long pos = head.get();
+		while (true) {
+			int index = (int) pos & mask;
+			long diff = sequences.get(index) - (pos + 1);
+			if (diff == 0) {
+				if (head.compareAndSet(pos, pos + 1)) {
+					E element = (E) elements[index];
+					elements[index] = null;
+					// release the slot for the next round
+					sequences.set(index, pos + mask + 1);
+					return element;
+				}
+			}
+			else if (diff < 0) {
+				// the slot wasn't published yet
+				return null;
+			}
+			pos = head.get();
+		}
+	}
+	
+	/**
+	 * @return if the buffer is empty
+	 */
+	public boolean isEmpty() {
+		return size() == 0;
+	}
+	
+	/**
+	 * Get the number of elements in the buffer. The value is only an estimate
+	 * if the buffer is modified concurrently.
+	 * 
+	 * @return the number of elements
+	 */
+	public int size() {
+		long size = tail.get() - head.get();
+		if (size < 0) {
+			return 0;
+		}
+		return (int) Math.min(size, mask + 1);
+	}
+	
+	/**
+	 * @return the buffer capacity
+	 */
+	public int capacity() {
+		return mask + 1;
+	}
+
+}
@@ -25,27 +25,62 @@ import java.util.Hashtable;
 
 import org.osgi.framework.ServiceRegistration;
 
+import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.spi.LoggingEvent;
-import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
 import de.fhg.igd.slf4jplus.logback.Activator;
+import de.fhg.igd.slf4jplus.logback.LogObserver;
+import de.fhg.igd.slf4jplus.logback.OverflowPolicy;
 import de.fhg.igd.slf4jplus.logback.StatusService;
 
 /**
- * Appender that published logging events to a service
+ * Appender that published logging events to a service. In asynchronous mode
+ * the events are published on a dedicated thread, so slow observers don't
+ * hold up the logging threads.
  * 
  * @author Simon Templer
  */
-public class ServiceAppender extends AppenderBase<LoggingEvent> {
+public class ServiceAppender extends UnsynchronizedAppenderBase<LoggingEvent> {
 	
-	private final StatusServiceImpl status = new StatusServiceImpl();
+	private final StatusServiceImpl status = new StatusServiceImpl(this);
 	
 	private ServiceRegistration<StatusService> serviceReg;
+	
+	private boolean async = false;
+	
+	private int bufferSize = 1024;
+	
+	private WaitStrategy waitStrategy = WaitStrategy.BLOCKING;
+	
+	private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+	
+	private Level dropBelowLevel = Level.WARN;
+	
+	private long maxFlushTime = 1000;
+	
+	private volatile AsyncDispatcher dispatcher;
 
 	/**
-	 * @see AppenderBase#start()
+	 * @see UnsynchronizedAppenderBase#start()
 	 */
 	@Override
 	public void start() {
+		// restart the delivery to observers still registered from before
+		status.start();
+		
+		if (async) {
+			AsyncDispatcher dispatcher = new AsyncDispatcher(new LogObserver() {
+				
+				@Override
+				public void onEvent(LoggingEvent event) {
+					status.publishEvent(event);
+				}
+				
+			}, this, bufferSize, waitStrategy, overflowPolicy, dropBelowLevel);
+			dispatcher.start("Log status dispatcher");
+			this.dispatcher = dispatcher;
+		}
+		
 		super.start();
 		
 		// publish OSGi server
@@ -54,22 +89,108 @@ public class ServiceAppender extends AppenderBase<LoggingEvent> {
 	}
 
 	/**
-	 * @see AppenderBase#stop()
+	 * @see UnsynchronizedAppenderBase#stop()
 	 */
 	@Override
 	public void stop() {
+		// deliver queued events, new events are published synchronously
+		AsyncDispatcher dispatcher = this.dispatcher;
+		if (dispatcher != null) {
+			int lost = dispatcher.stop(maxFlushTime);
+			if (lost > 0) {
+				addWarn(lost + " queued logging events were not published");
+			}
+			this.dispatcher = null;
+		}
+		
 		// unpublish OSGi service
 		serviceReg.unregister();
 		
+		status.stop();
+		
 		super.stop();
 	}
 
 	/**
-	 * @see AppenderBase#append(Object)
+	 * @see UnsynchronizedAppenderBase#append(Object)
 	 */
 	@Override
 	protected void append(LoggingEvent event) {
+		AsyncDispatcher dispatcher = this.dispatcher;
+		if (dispatcher != null) {
+			// the event may not depend on the logging thread any more
+			event.prepareForDeferredProcessing();
+			if (dispatcher.publish(event)) {
+				return;
+			}
+		}
+		
 		status.publishEvent(event);
 	}
+	
+	/**
+	 * Get the number of events dropped because the buffer was full in
+	 * asynchronous mode
+	 * 
+	 * @return the number of dropped events
+	 */
+	public long getDroppedCount() {
+		AsyncDispatcher dispatcher = this.dispatcher;
+		return (dispatcher == null) ? 0 : dispatcher.getDroppedCount();
+	}
+
+	/**
+	 * @param async if events should be published on a dedicated thread
+	 */
+	public void setAsync(boolean async) {
+		this.async = async;
+	}
+
+	/**
+	 * @param bufferSize the number of events that can be queued in
+	 *   asynchronous mode, rounded up to the next power of two, at most
+	 *   {@link RingBuffer#MAXIMUM_CAPACITY}
+	 */
+	public void setBufferSize(int bufferSize) {
+		if (bufferSize > RingBuffer.MAXIMUM_CAPACITY) {
+			addWarn("Buffer size " + bufferSize + " is too large, using "
+					+ RingBuffer.MAXIMUM_CAPACITY);
+			bufferSize = RingBuffer.MAXIMUM_CAPACITY;
+		}
+		this.bufferSize = bufferSize;
+	}
+
+	/**
+	 * @param waitStrategy how the dispatcher thread waits for new events in
+	 *   asynchronous mode
+	 */
+	public void setWaitStrategy(WaitStrategy waitStrategy) {
+		this.waitStrategy = waitStrategy;
+	}
+
+	/**
+	 * @param overflowPolicy the policy if the buffer is full in asynchronous
+	 *   mode
+	 */
+	public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	/**
+	 * @param dropBelowLevel the level below which events are dropped with
+	 *   {@link OverflowPolicy#DROP_BELOW_LEVEL}
+	 */
+	public void setDropBelowLevel(String dropBelowLevel) {
+		this.dropBelowLevel = Level.toLevel(dropBelowLevel, Level.WARN);
+	}
+
+	/**
+	 * @param maxFlushTime the maximum time to wait for queued events to be
+	 *   published on {@link #stop()}, in milliseconds, if it is not positive
+	 *   {@link #stop()} doesn't wait
+	 */
+	public void setMaxFlushTime(long maxFlushTime) {
+		this.maxFlushTime = maxFlushTime;
+	}
 
 }
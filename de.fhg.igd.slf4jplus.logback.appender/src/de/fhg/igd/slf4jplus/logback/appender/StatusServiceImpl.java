@@ -21,29 +21,89 @@
 
 package de.fhg.igd.slf4jplus.logback.appender;
 
-import java.util.HashSet;
-import java.util.Set;
+import java.util.ArrayList;
+import java.util.List;
 
+import org.slf4j.Marker;
+
+import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.spi.ContextAware;
+import de.fhg.igd.slf4jplus.ALoggerUtil;
+import de.fhg.igd.slf4jplus.logback.DeliveryOptions;
+import de.fhg.igd.slf4jplus.logback.DeliveryStatistics;
 import de.fhg.igd.slf4jplus.logback.LogObserver;
 import de.fhg.igd.slf4jplus.logback.StatusService;
+import de.fhg.igd.slf4jplus.logback.Subscription;
 
 /**
- * Log service implementation
+ * Log service implementation. The observers are held in an array that is
+ * replaced when observers are added or removed, so publishing events
+ * requires no locking and observers may be called concurrently. Observers
+ * added with queued delivery each have their own queue and thread.
+ * For each combination of level, user message and transaction event the
+ * observers with a matching {@link Subscription} are determined in advance,
+ * so an event is only passed to observers that are interested in it.
  * 
  * @author Simon Templer
  */
 public class StatusServiceImpl implements StatusService {
 	
-	private final Set<LogObserver> observers = new HashSet<LogObserver>();
+	private static final ObserverDelivery[] NO_OBSERVERS = new ObserverDelivery[0];
+	
+	/**
+	 * The levels in the order of their route indices
+	 */
+	private static final Level[] LEVELS = new Level[] {
+		Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR };
+	
+	/**
+	 * The number of routes per level, one for each combination of the user
+	 * message and transaction event flags
+	 */
+	private static final int ROUTES_PER_LEVEL = 4;
+	
+	private final ContextAware owner;
+	
+	private final Object lock = new Object();
+	
+	private volatile ObserverDelivery[] observers = NO_OBSERVERS;
+	
+	private volatile ObserverDelivery[][] routes = createRoutes(NO_OBSERVERS);
+
+	/**
+	 * Create a log service
+	 * 
+	 * @param owner the component to report delivery errors to
+	 */
+	public StatusServiceImpl(ContextAware owner) {
+		super();
+		this.owner = owner;
+	}
 
 	/**
 	 * @see StatusService#addObserver(LogObserver)
 	 */
 	@Override
 	public void addObserver(LogObserver observer) {
-		synchronized (observers) {
-			observers.add(observer);
+		addObserver(observer, DeliveryOptions.direct());
+	}
+
+	/**
+	 * @see StatusService#addObserver(LogObserver, DeliveryOptions)
+	 */
+	@Override
+	public void addObserver(LogObserver observer, DeliveryOptions options) {
+		synchronized (lock) {
+			ObserverDelivery[] current = observers;
+			if (indexOf(current, observer) >= 0) {
+				return;
+			}
+			
+			ObserverDelivery[] updated = new ObserverDelivery[current.length + 1];
+			System.arraycopy(current, 0, updated, 0, current.length);
+			updated[current.length] = new ObserverDelivery(observer, options, owner);
+			setObservers(updated);
 		}
 	}
 
@@ -52,9 +112,38 @@ public class StatusServiceImpl implements StatusService {
 	 */
 	@Override
 	public void removeObserver(LogObserver observer) {
-		synchronized (observers) {
-			observers.remove(observer);
+		ObserverDelivery removed;
+		synchronized (lock) {
+			ObserverDelivery[] current = observers;
+			int index = indexOf(current, observer);
+			if (index < 0) {
+				return;
+			}
+			
+			removed = current[index];
+			ObserverDelivery[] updated;
+			if (current.length == 1) {
+				updated = NO_OBSERVERS;
+			}
+			else {
+				updated = new ObserverDelivery[current.length - 1];
+				System.arraycopy(current, 0, updated, 0, index);
+				System.arraycopy(current, index + 1, updated, index, current.length - index - 1);
+			}
+			setObservers(updated);
 		}
+		
+		removed.stop();
+	}
+
+	/**
+	 * @see StatusService#getStatistics(LogObserver)
+	 */
+	@Override
+	public DeliveryStatistics getStatistics(LogObserver observer) {
+		ObserverDelivery[] current = observers;
+		int index = indexOf(current, observer);
+		return (index < 0) ? null : current[index];
 	}
 	
 	/**
@@ -63,11 +152,128 @@ public class StatusServiceImpl implements StatusService {
 	 * @param event the event to publish
 	 */
 	public void publishEvent(LoggingEvent event) {
-		synchronized (observers) {
-			for (LogObserver observer : observers) {
-				observer.onEvent(event);
+		ObserverDelivery[][] current = routes;
+		int levelIndex = levelIndex(event.getLevel());
+		Marker marker = event.getMarker();
+		ObserverDelivery[] route;
+		if (marker == null) {
+			route = current[routeIndex(levelIndex, false, false)];
+		}
+		else {
+			route = current[routeIndex(levelIndex,
+					ALoggerUtil.isUserMessage(marker),
+					ALoggerUtil.beginsTransaction(marker)
+							|| ALoggerUtil.endsTransaction(marker))];
+		}
+		
+		String bundleName = null;
+		boolean bundleKnown = false;
+		for (ObserverDelivery observer : route) {
+			if (observer.filtersBundles()) {
+				if (!bundleKnown) {
+					bundleName = ALoggerUtil.getBundleName(marker);
+					bundleKnown = true;
+				}
+				if (!observer.getSubscription().acceptsBundle(bundleName)) {
+					continue;
+				}
+			}
+			
+			observer.publish(event);
+		}
+	}
+	
+	/**
+	 * Start the delivery threads of observers with queued delivery that
+	 * were stopped with {@link #stop()}
+	 */
+	public void start() {
+		for (ObserverDelivery observer : observers) {
+			observer.start();
+		}
+	}
+	
+	/**
+	 * Stop the delivery threads of all observers after the queued events
+	 * were delivered, until then events are delivered directly
+	 */
+	public void stop() {
+		for (ObserverDelivery observer : observers) {
+			observer.stop();
+		}
+	}
+	
+	/**
+	 * Replace the observers and update the routes, the caller must hold
+	 * the lock
+	 * 
+	 * @param updated the new observers
+	 */
+	private void setObservers(ObserverDelivery[] updated) {
+		routes = createRoutes(updated);
+		observers = updated;
+	}
+	
+	/**
+	 * Determine the observers for each route
+	 * 
+	 * @param observers the observers
+	 * 
+	 * @return the observers indexed by route
+	 */
+	private static ObserverDelivery[][] createRoutes(ObserverDelivery[] observers) {
+		ObserverDelivery[][] routes = new ObserverDelivery[LEVELS.length * ROUTES_PER_LEVEL][];
+		List<ObserverDelivery> matching = new ArrayList<ObserverDelivery>();
+		for (int levelIndex = 0; levelIndex < LEVELS.length; levelIndex++) {
+			for (int flags = 0; flags < ROUTES_PER_LEVEL; flags++) {
+				boolean userMessage = (flags & 2) != 0;
+				boolean transactionEvent = (flags & 1) != 0;
+				
+				matching.clear();
+				for (ObserverDelivery observer : observers) {
+					if (observer.getSubscription().accepts(LEVELS[levelIndex],
+							userMessage, transactionEvent)) {
+						matching.add(observer);
+					}
+				}
+				
+				routes[routeIndex(levelIndex, userMessage, transactionEvent)] =
+						(matching.isEmpty())
+						? (NO_OBSERVERS)
+						: (matching.toArray(new ObserverDelivery[matching.size()]));
+			}
+		}
+		return routes;
+	}
+	
+	private static int routeIndex(int levelIndex, boolean userMessage,
+			boolean transactionEvent) {
+		return levelIndex * ROUTES_PER_LEVEL + ((userMessage) ? (2) : (0))
+				+ ((transactionEvent) ? (1) : (0));
+	}
+	
+	private static int levelIndex(Level level) {
+		switch (level.toInt()) {
+		case Level.ERROR_INT:
+			return 4;
+		case Level.WARN_INT:
+			return 3;
+		case Level.INFO_INT:
+			return 2;
+		case Level.DEBUG_INT:
+			return 1;
+		default:
+			return 0;
+		}
+	}
+	
+	private static int indexOf(ObserverDelivery[] observers, LogObserver observer) {
+		for (int i = 0; i < observers.length; i++) {
+			if (observers[i].getObserver().equals(observer)) {
+				return i;
 			}
 		}
+		return -1;
 	}
 
 }
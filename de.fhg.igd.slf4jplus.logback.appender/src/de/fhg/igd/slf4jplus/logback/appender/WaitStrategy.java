@@ -0,0 +1,86 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.logback.appender;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Strategy for the dispatcher thread waiting for new logging events
+ * 
+ * @author Simon Templer
+ */
+public enum WaitStrategy {
+	
+	/**
+	 * Park the thread until an event is published, lowest CPU usage but
+	 * publishing has to wake up the thread
+	 */
+	BLOCKING,
+	
+	/**
+	 * Spin, then yield, then sleep for short periods
+	 */
+	SLEEPING,
+	
+	/**
+	 * Spin, then yield the processor, low latency at the cost of CPU usage
+	 */
+	YIELDING,
+	
+	/**
+	 * Spin, lowest latency but occupies a processor
+	 */
+	BUSY_SPIN;
+	
+	private static final int SPIN_TRIES = 100;
+	
+	private static final int YIELD_TRIES = 200;
+	
+	private static final long SLEEP_NANOS = 100000;
+	
+	/**
+	 * Wait after an unsuccessful attempt to take an event. Does nothing for
+	 * {@link #BLOCKING}, which is handled by the dispatcher.
+	 * 
+	 * @param attempt the number of unsuccessful attempts so far
+	 */
+	void idle(int attempt) {
+		switch (this) {
+		case SLEEPING:
+			if (attempt > YIELD_TRIES) {
+				LockSupport.parkNanos(SLEEP_NANOS);
+			}
+			else if (attempt > SPIN_TRIES) {
+				Thread.yield();
+			}
+			break;
+		case YIELDING:
+			if (attempt > SPIN_TRIES) {
+				Thread.yield();
+			}
+			break;
+		default:
+			// spin
+		}
+	}
+
+}
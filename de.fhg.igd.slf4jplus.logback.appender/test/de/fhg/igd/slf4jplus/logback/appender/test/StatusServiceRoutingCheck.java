@@ -0,0 +1,227 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+
+package de.fhg.igd.slf4jplus.logback.appender.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.slf4j.Marker;
+import org.slf4j.MarkerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.spi.ContextAwareBase;
+import de.fhg.igd.slf4jplus.ALoggerConstants;
+import de.fhg.igd.slf4jplus.logback.DeliveryOptions;
+import de.fhg.igd.slf4jplus.logback.LogObserver;
+import de.fhg.igd.slf4jplus.logback.OverflowPolicy;
+import de.fhg.igd.slf4jplus.logback.Subscription;
+import de.fhg.igd.slf4jplus.logback.appender.StatusServiceImpl;
+
+/**
+ * Checks that a {@link StatusServiceImpl} passes each event exactly to the
+ * observers whose {@link Subscription} accepts it, for all combinations of
+ * level, user message, transaction event and bundle, with direct and
+ * queued delivery, and that removed observers receive no more events. Run
+ * it with the bundle classes, slf4j and Logback on the class path, it exits
+ * with status 1 if a check fails.
+ * 
+ * @author Simon Templer
+ */
+public class StatusServiceRoutingCheck implements ALoggerConstants {
+	
+	private static final Level[] LEVELS = new Level[] {
+		Level.TRACE, Level.DEBUG, Level.INFO, Level.WARN, Level.ERROR };
+	
+	private static final String[] BUNDLES = new String[] { null, "first", "second" };
+	
+	/**
+	 * Observer that records the events it receives
+	 */
+	private static class RecordingObserver implements LogObserver {
+		
+		private final List<LoggingEvent> events = Collections.synchronizedList(
+				new ArrayList<LoggingEvent>());
+
+		@Override
+		public void onEvent(LoggingEvent event) {
+			events.add(event);
+		}
+		
+	}
+	
+	private static int checks;
+	
+	private static int failures;
+
+	/**
+	 * Run the checks
+	 * 
+	 * @param args ignored
+	 */
+	public static void main(String[] args) {
+		StatusServiceImpl service = new StatusServiceImpl(new ContextAwareBase());
+		
+		RecordingObserver all = new RecordingObserver();
+		service.addObserver(all);
+		
+		Subscription warn = new Subscription();
+		warn.setMinimumLevel(Level.WARN);
+		RecordingObserver warnings = add(service, warn, false);
+		
+		Subscription user = new Subscription();
+		user.setUserMessagesOnly(true);
+		RecordingObserver userMessages = add(service, user, false);
+		
+		Subscription noTransactions = new Subscription();
+		noTransactions.setTransactionEvents(false);
+		RecordingObserver messages = add(service, noTransactions, false);
+		
+		Subscription bundle = new Subscription();
+		bundle.setBundles(Arrays.asList("first"));
+		RecordingObserver firstBundle = add(service, bundle, false);
+		
+		Subscription queuedUserInfo = new Subscription();
+		queuedUserInfo.setMinimumLevel(Level.INFO);
+		queuedUserInfo.setUserMessagesOnly(true);
+		RecordingObserver queued = add(service, queuedUserInfo, true);
+		
+		// adding an observer again has no effect
+		service.addObserver(all);
+		
+		LoggerContext context = new LoggerContext();
+		List<LoggingEvent> published = new ArrayList<LoggingEvent>();
+		for (Level level : LEVELS) {
+			for (int flags = 0; flags < 8; flags++) {
+				for (String bundleName : BUNDLES) {
+					LoggingEvent event = new LoggingEvent(null,
+							context.getLogger("check"), level, "message", null, null);
+					event.setMarker(createMarker((flags & 1) != 0, (flags & 2) != 0,
+							(flags & 4) != 0, bundleName));
+					published.add(event);
+					service.publishEvent(event);
+				}
+			}
+		}
+		service.stop();
+		
+		for (LoggingEvent event : published) {
+			Marker marker = event.getMarker();
+			boolean userMessage = marker != null && marker.contains(USER_MARKER_NAME);
+			boolean transactionEvent = marker != null
+					&& (marker.contains(TRANSACTION_BEGIN_NAME)
+							|| marker.contains(TRANSACTION_END_NAME));
+			boolean inFirst = marker != null && marker.contains(BUNDLE_NAME_PREFIX + "first");
+			int level = event.getLevel().toInt();
+			
+			check(all, event, true);
+			check(warnings, event, level >= Level.WARN_INT);
+			check(userMessages, event, userMessage);
+			check(messages, event, !transactionEvent);
+			check(firstBundle, event, inFirst);
+			check(queued, event, level >= Level.INFO_INT && userMessage);
+		}
+		check("all events received once", all.events.size() == published.size());
+		
+		// removed observers receive no more events
+		service.removeObserver(all);
+		service.removeObserver(queued);
+		LoggingEvent late = new LoggingEvent(null, context.getLogger("check"),
+				Level.ERROR, "late", null, null);
+		late.setMarker(createMarker(true, false, false, null));
+		service.publishEvent(late);
+		check(all, late, false);
+		check(queued, late, false);
+		check(userMessages, late, true);
+		
+		System.out.println(checks + " checks, " + failures + " failed");
+		if (failures > 0) {
+			System.exit(1);
+		}
+	}
+	
+	private static RecordingObserver add(StatusServiceImpl service,
+			Subscription subscription, boolean queued) {
+		DeliveryOptions options = (queued)
+				? (DeliveryOptions.queued(1024, OverflowPolicy.BLOCK))
+				: (DeliveryOptions.direct());
+		options.setMaxFlushTime(10000);
+		options.setSubscription(subscription);
+		RecordingObserver observer = new RecordingObserver();
+		service.addObserver(observer, options);
+		return observer;
+	}
+	
+	/**
+	 * Create a marker the way a logger not using the plus markers does
+	 * 
+	 * @param userMessage if the marker is for a user message
+	 * @param begin if the marker is for a transaction begin
+	 * @param end if the marker is for a transaction end
+	 * @param bundleName the bundle name, may be <code>null</code>
+	 * 
+	 * @return the marker or <code>null</code> if there is nothing to mark
+	 */
+	private static Marker createMarker(boolean userMessage, boolean begin,
+			boolean end, String bundleName) {
+		if (!userMessage && !begin && !end && bundleName == null) {
+			return null;
+		}
+		
+		Marker marker = MarkerFactory.getDetachedMarker(WRAPPER_MARKER_NAME);
+		if (userMessage) {
+			marker.add(USER_MESSAGE);
+		}
+		if (begin) {
+			marker.add(TRANSACTION_BEGIN);
+		}
+		if (end) {
+			marker.add(TRANSACTION_END);
+		}
+		if (bundleName != null) {
+			Marker bundle = MarkerFactory.getDetachedMarker(BUNDLE_MARKER_NAME);
+			bundle.add(MarkerFactory.getMarker(BUNDLE_NAME_PREFIX + bundleName));
+			marker.add(bundle);
+		}
+		return marker;
+	}
+	
+	private static void check(RecordingObserver observer, LoggingEvent event,
+			boolean expected) {
+		check("event " + event.getLevel() + " " + event.getMarker()
+				+ ((expected) ? (" received") : (" not received")),
+				observer.events.contains(event) == expected);
+	}
+	
+	private static void check(String description, boolean passed) {
+		checks++;
+		if (!passed) {
+			failures++;
+			System.out.println("failed: " + description);
+		}
+	}
+
+}
@@ -21,24 +21,29 @@
 
 package de.fhg.igd.slf4jplus.logback.observer;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import ch.qos.logback.classic.spi.LoggingEvent;
 import de.fhg.igd.slf4jplus.ALoggerUtil;
+import de.fhg.igd.slf4jplus.logback.BatchLogObserver;
 import de.fhg.igd.slf4jplus.logback.LogObserver;
 
 /**
- * Log observer that ignores any group or transaction informations
+ * Log observer that ignores any group or transaction informations. It holds
+ * no state, events passed concurrently by several threads are processed
+ * concurrently.
  * 
  * @author Simon Templer
  */
-public abstract class FlatLogObserver implements LogObserver {
+public abstract class FlatLogObserver implements BatchLogObserver {
 
 	/**
 	 * @see LogObserver#onEvent(LoggingEvent)
 	 */
 	@Override
 	public void onEvent(LoggingEvent event) {
-		if (ALoggerUtil.beginsTransaction(event.getMarker())
-				|| ALoggerUtil.endsTransaction(event.getMarker())) {
+		if (isTransactionEvent(event)) {
 			// ignore transaction markers
 			return;
 		}
@@ -46,6 +51,49 @@ public abstract class FlatLogObserver implements LogObserver {
 		processEvent(event);
 	}
 
+	/**
+	 * @see BatchLogObserver#onEvents(List)
+	 */
+	@Override
+	public void onEvents(List<LoggingEvent> events) {
+		List<LoggingEvent> accepted = null;
+		for (int i = 0; i < events.size(); i++) {
+			LoggingEvent event = events.get(i);
+			if (isTransactionEvent(event)) {
+				// ignore transaction markers, copy the events before
+				if (accepted == null) {
+					accepted = new ArrayList<LoggingEvent>(events.subList(0, i));
+				}
+			}
+			else if (accepted != null) {
+				accepted.add(event);
+			}
+		}
+		
+		List<LoggingEvent> batch = (accepted == null) ? (events) : (accepted);
+		if (!batch.isEmpty()) {
+			processEvents(batch);
+		}
+	}
+	
+	private static boolean isTransactionEvent(LoggingEvent event) {
+		return ALoggerUtil.beginsTransaction(event.getMarker())
+				|| ALoggerUtil.endsTransaction(event.getMarker());
+	}
+
+	/**
+	 * Process several log events at once. The default implementation calls
+	 * {@link #processEvent(LoggingEvent)} for each event, override it to e.g.
+	 * acquire a lock only once per batch.
+	 * 
+	 * @param events the log events, the list may only be used during the call
+	 */
+	protected void processEvents(List<LoggingEvent> events) {
+		for (LoggingEvent event : events) {
+			processEvent(event);
+		}
+	}
+
 	/**
 	 * Process a single log event
 	 * 
@@ -21,24 +21,32 @@
 
 package de.fhg.igd.slf4jplus.logback.observer;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 
 import ch.qos.logback.classic.spi.LoggingEvent;
 import de.fhg.igd.slf4jplus.ALoggerConstants;
 import de.fhg.igd.slf4jplus.ALoggerUtil;
+import de.fhg.igd.slf4jplus.logback.BatchLogObserver;
 import de.fhg.igd.slf4jplus.logback.LogObserver;
 import de.fhg.igd.slf4jplus.logback.observer.internal.EventGroupImpl;
 
 /**
  * Log observer that provides basic transaction and group handling
- * functionality
+ * functionality. Events may be passed concurrently by several threads, they
+ * are assigned to their groups while holding a lock on the open transactions,
+ * for a batch of events it is acquired only once. Single events and completed
+ * groups are processed outside the lock, so
+ * {@link #processEvent(LoggingEvent)} and {@link #processEvents(EventGroup)}
+ * may be called concurrently.
  * 
  * @author Simon Templer
  */
-public abstract class GroupAwareLogObserver implements LogObserver, ALoggerConstants {
+public abstract class GroupAwareLogObserver implements BatchLogObserver, ALoggerConstants {
 	
 	private final Map<String, EventGroupImpl> openTransactions = new HashMap<String, EventGroupImpl>();
 
@@ -47,25 +55,130 @@ public abstract class GroupAwareLogObserver implements LogObserver, ALoggerConst
 	 */
 	@Override
 	public void onEvent(LoggingEvent event) {
-		if (!acceptRawEvent(event)) {
-			return;
+		if (acceptRawEvent(event)) {
+			boolean accepted = acceptEvent(event);
+			Object result;
+			synchronized (openTransactions) {
+				result = handleEvent(event, accepted);
+			}
+			process(result);
 		}
+	}
+
+	/**
+	 * @see BatchLogObserver#onEvents(List)
+	 */
+	@Override
+	public void onEvents(List<LoggingEvent> events) {
+		// a failing event doesn't discard the results of the others
+		RuntimeException failure = null;
 		
-		// transactions
-		String transactions;
-		if (event.getMDCPropertyMap() != null) {
-			transactions = event.getMDCPropertyMap().get(MDC_TRANSACTIONS);
+		// filter outside the lock
+		List<LoggingEvent> accepted = new ArrayList<LoggingEvent>(events.size());
+		boolean[] messageAccepted = new boolean[events.size()];
+		for (LoggingEvent event : events) {
+			try {
+				if (acceptRawEvent(event)) {
+					messageAccepted[accepted.size()] = acceptEvent(event);
+					accepted.add(event);
+				}
+			} catch (RuntimeException e) {
+				if (failure == null) {
+					failure = e;
+				}
+			}
 		}
-		else {
-			transactions = null;
+		
+		List<Object> results = new ArrayList<Object>(accepted.size());
+		synchronized (openTransactions) {
+			for (int i = 0; i < accepted.size(); i++) {
+				try {
+					Object result = handleEvent(accepted.get(i), messageAccepted[i]);
+					if (result != null) {
+						results.add(result);
+					}
+				} catch (RuntimeException e) {
+					if (failure == null) {
+						failure = e;
+					}
+				}
+			}
 		}
 		
-		String[] transPath;
-		if (transactions != null && !transactions.isEmpty()) {
-			transPath = transactions.split(MDC_TRANSACTIONS_SEPARATOR);
+		// process outside the lock
+		for (Object result : results) {
+			try {
+				process(result);
+			} catch (RuntimeException e) {
+				if (failure == null) {
+					failure = e;
+				}
+			}
 		}
-		else {
-			transPath = null;
+		
+		if (failure != null) {
+			throw failure;
+		}
+	}
+	
+	/**
+	 * Determines if an event that was accepted by
+	 * {@link #acceptRawEvent(LoggingEvent)} shall be further processed.
+	 * Events that begin or end a transaction are always accepted, other
+	 * events are checked with {@link #acceptMessageEvent(LoggingEvent)}.
+	 * 
+	 * @param event the logging event
+	 * 
+	 * @return if the event shall be further processed
+	 */
+	private boolean acceptEvent(LoggingEvent event) {
+		return ALoggerUtil.beginsTransaction(event.getMarker())
+				|| ALoggerUtil.endsTransaction(event.getMarker())
+				|| acceptMessageEvent(event);
+	}
+	
+	/**
+	 * Process the result of {@link #handleEvent(LoggingEvent, boolean)}
+	 * 
+	 * @param result the single event or completed event group to process,
+	 *   may be <code>null</code>
+	 */
+	private void process(Object result) {
+		if (result instanceof EventGroup) {
+			processEvents((EventGroup) result);
+		}
+		else if (result != null) {
+			processEvent((LoggingEvent) result);
+		}
+	}
+	
+	/**
+	 * Assign an event that was accepted by
+	 * {@link #acceptRawEvent(LoggingEvent)} to its group. No methods that
+	 * may be overridden are called, so this may be done while holding the
+	 * lock on the open transactions.
+	 * 
+	 * @param event the logging event
+	 * @param accepted the result of {@link #acceptEvent(LoggingEvent)}
+	 * 
+	 * @return the single event or completed event group that shall be
+	 *   processed, <code>null</code> if there is none
+	 */
+	private Object handleEvent(LoggingEvent event, boolean accepted) {
+		// transactions, attached to the marker or stored in the MDC
+		String[] transPath = ALoggerUtil.getTransactions(event.getMarker());
+		if (transPath == null) {
+			String transactions;
+			if (event.getMDCPropertyMap() != null) {
+				transactions = event.getMDCPropertyMap().get(MDC_TRANSACTIONS);
+			}
+			else {
+				transactions = null;
+			}
+			
+			if (transactions != null && !transactions.isEmpty()) {
+				transPath = transactions.split(MDC_TRANSACTIONS_SEPARATOR);
+			}
 		}
 		
 		// get group information
@@ -133,7 +246,7 @@ public abstract class GroupAwareLogObserver implements LogObserver, ALoggerConst
 						 */
 					}
 					else {
-						processEvents(group);
+						return group;
 					}
 				}
 			}
@@ -141,17 +254,19 @@ public abstract class GroupAwareLogObserver implements LogObserver, ALoggerConst
 		}
 		else {
 			// normal message
-			if (acceptMessageEvent(event)) {
+			if (accepted) {
 				if (group != null) {
 					// add event to group
 					group.add(event);
 				}
 				else {
 					// process single event
-					processEvent(event);
+					return event;
 				}
 			}
 		}
+		
+		return null;
 	}
 	
 	/**
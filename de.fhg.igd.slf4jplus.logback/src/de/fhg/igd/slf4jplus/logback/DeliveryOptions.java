@@ -0,0 +1,244 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.logback;
+
+import java.util.concurrent.ThreadFactory;
+
+import ch.qos.logback.classic.Level;
+
+/**
+ * Options for delivering logging events to a {@link LogObserver}. By default
+ * events are delivered directly on the publishing thread. Queued delivery
+ * uses a dedicated bounded queue and thread for the observer, so a slow
+ * observer doesn't hold up others.
+ * 
+ * @author Simon Templer
+ */
+public class DeliveryOptions {
+	
+	private final boolean queued;
+	
+	/**
+	 * The maximum queue size, the largest power of two array size
+	 */
+	private static final int MAXIMUM_QUEUE_SIZE = 1 << 30;
+	
+	private int maxQueueSize = 1024;
+	
+	private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+	
+	private Level dropBelowLevel = Level.WARN;
+	
+	private ThreadFactory threadFactory;
+	
+	private long maxFlushTime = 1000;
+	
+	private int maxBatchSize = 1;
+	
+	private long maxLingerTime = 0;
+	
+	private Subscription subscription;
+	
+	/**
+	 * Create delivery options
+	 * 
+	 * @param queued if events should be queued for the observer
+	 */
+	private DeliveryOptions(boolean queued) {
+		super();
+		this.queued = queued;
+	}
+	
+	/**
+	 * Create options for delivering events directly on the publishing thread
+	 * 
+	 * @return the delivery options
+	 */
+	public static DeliveryOptions direct() {
+		return new DeliveryOptions(false);
+	}
+	
+	/**
+	 * Create options for delivering events through a dedicated queue and
+	 * thread
+	 * 
+	 * @param maxQueueSize the maximum number of queued events
+	 * @param overflowPolicy the policy if the queue is full
+	 * 
+	 * @return the delivery options
+	 */
+	public static DeliveryOptions queued(int maxQueueSize, OverflowPolicy overflowPolicy) {
+		DeliveryOptions options = new DeliveryOptions(true);
+		options.setMaxQueueSize(maxQueueSize);
+		options.setOverflowPolicy(overflowPolicy);
+		return options;
+	}
+
+	/**
+	 * @return if events are queued for the observer
+	 */
+	public boolean isQueued() {
+		return queued;
+	}
+
+	/**
+	 * @return the maximum number of queued events
+	 */
+	public int getMaxQueueSize() {
+		return maxQueueSize;
+	}
+
+	/**
+	 * @param maxQueueSize the maximum number of queued events, it is
+	 *   rounded up to the next power of two, at most <code>2^30</code>
+	 * @throws IllegalArgumentException if the queue size is larger than
+	 *   <code>2^30</code>
+	 */
+	public void setMaxQueueSize(int maxQueueSize) {
+		if (maxQueueSize > MAXIMUM_QUEUE_SIZE) {
+			throw new IllegalArgumentException("Queue size " + maxQueueSize
+					+ " exceeds the maximum of " + MAXIMUM_QUEUE_SIZE);
+		}
+		this.maxQueueSize = maxQueueSize;
+	}
+
+	/**
+	 * @return the policy if the queue is full
+	 */
+	public OverflowPolicy getOverflowPolicy() {
+		return overflowPolicy;
+	}
+
+	/**
+	 * @param overflowPolicy the policy if the queue is full
+	 */
+	public void setOverflowPolicy(OverflowPolicy overflowPolicy) {
+		this.overflowPolicy = overflowPolicy;
+	}
+
+	/**
+	 * @return the level below which events are dropped with
+	 *   {@link OverflowPolicy#DROP_BELOW_LEVEL}
+	 */
+	public Level getDropBelowLevel() {
+		return dropBelowLevel;
+	}
+
+	/**
+	 * @param dropBelowLevel the level below which events are dropped with
+	 *   {@link OverflowPolicy#DROP_BELOW_LEVEL}
+	 */
+	public void setDropBelowLevel(Level dropBelowLevel) {
+		this.dropBelowLevel = dropBelowLevel;
+	}
+
+	/**
+	 * @return the factory for the delivery thread, may be <code>null</code>
+	 */
+	public ThreadFactory getThreadFactory() {
+		return threadFactory;
+	}
+
+	/**
+	 * Set the factory for the delivery thread, e.g. one creating virtual
+	 * threads. By default a daemon platform thread is used.
+	 * 
+	 * @param threadFactory the thread factory, may be <code>null</code>
+	 */
+	public void setThreadFactory(ThreadFactory threadFactory) {
+		this.threadFactory = threadFactory;
+	}
+
+	/**
+	 * @return the maximum time to wait for queued events to be delivered
+	 *   when the observer is removed, in milliseconds
+	 */
+	public long getMaxFlushTime() {
+		return maxFlushTime;
+	}
+
+	/**
+	 * @param maxFlushTime the maximum time to wait for queued events to be
+	 *   delivered when the observer is removed, in milliseconds, if it is
+	 *   not positive there is no waiting
+	 */
+	public void setMaxFlushTime(long maxFlushTime) {
+		this.maxFlushTime = maxFlushTime;
+	}
+
+	/**
+	 * @return the maximum number of events delivered at once to a
+	 *   {@link BatchLogObserver}
+	 */
+	public int getMaxBatchSize() {
+		return maxBatchSize;
+	}
+
+	/**
+	 * Set the maximum number of events delivered at once to a
+	 * {@link BatchLogObserver}. Only applies to queued delivery.
+	 * 
+	 * @param maxBatchSize the maximum batch size
+	 */
+	public void setMaxBatchSize(int maxBatchSize) {
+		this.maxBatchSize = maxBatchSize;
+	}
+
+	/**
+	 * @return the maximum time to wait for further events before delivering
+	 *   an incomplete batch, in milliseconds
+	 */
+	public long getMaxLingerTime() {
+		return maxLingerTime;
+	}
+
+	/**
+	 * Set the maximum time to wait for further events before delivering an
+	 * incomplete batch. By default a batch is delivered as soon as no more
+	 * events are queued.
+	 * 
+	 * @param maxLingerTime the maximum linger time in milliseconds
+	 */
+	public void setMaxLingerTime(long maxLingerTime) {
+		this.maxLingerTime = maxLingerTime;
+	}
+
+	/**
+	 * @return the events the observer is interested in, <code>null</code>
+	 *   for all events
+	 */
+	public Subscription getSubscription() {
+		return subscription;
+	}
+
+	/**
+	 * Set the events the observer is interested in. Other events are not
+	 * passed to the observer. Changes to the subscription after the observer
+	 * was added have no effect.
+	 * 
+	 * @param subscription the subscription, <code>null</code> for all events
+	 */
+	public void setSubscription(Subscription subscription) {
+		this.subscription = subscription;
+	}
+
+}
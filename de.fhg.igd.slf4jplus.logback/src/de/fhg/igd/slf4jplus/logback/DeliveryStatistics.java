@@ -0,0 +1,47 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.logback;
+
+/**
+ * Delivery statistics of a {@link LogObserver}
+ * 
+ * @author Simon Templer
+ */
+public interface DeliveryStatistics {
+	
+	/**
+	 * Get the number of events published but not yet delivered to the
+	 * observer
+	 * 
+	 * @return the number of queued events, always zero for direct delivery
+	 */
+	public int getLag();
+	
+	/**
+	 * Get the number of events that were not delivered to the observer
+	 * because its queue was full
+	 * 
+	 * @return the number of dropped events
+	 */
+	public long getDroppedCount();
+
+}
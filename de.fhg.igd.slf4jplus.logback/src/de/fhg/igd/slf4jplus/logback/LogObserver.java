@@ -31,7 +31,8 @@ import ch.qos.logback.classic.spi.LoggingEvent;
 public interface LogObserver {
 	
 	/**
-	 * Called for each new logging event
+	 * Called for each new logging event. With direct delivery it may be
+	 * called concurrently by several logging threads.
 	 * 
 	 * @param event the logging event
 	 */
@@ -0,0 +1,46 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.logback;
+
+/**
+ * Policy for publishing a logging event to a full event queue
+ * 
+ * @author Simon Templer
+ */
+public enum OverflowPolicy {
+	
+	/**
+	 * Wait until there is room in the queue
+	 */
+	BLOCK,
+	
+	/**
+	 * Drop events below a threshold level, wait for room for other events
+	 */
+	DROP_BELOW_LEVEL,
+	
+	/**
+	 * Drop the oldest queued event to make room for the new event
+	 */
+	DROP_OLDEST
+
+}
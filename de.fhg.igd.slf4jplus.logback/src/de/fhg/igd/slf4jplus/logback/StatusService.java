@@ -31,17 +31,37 @@ import ch.qos.logback.classic.spi.LoggingEvent;
 public interface StatusService {
 	
 	/**
-	 * Add a log observer
+	 * Add a log observer, events are delivered directly on the publishing
+	 * thread
 	 * 
 	 * @param observer the observer to add
 	 */
 	public void addObserver(LogObserver observer);
 	
+	/**
+	 * Add a log observer with the given delivery options. An observer that
+	 * is already registered is not added again.
+	 * 
+	 * @param observer the observer to add
+	 * @param options the delivery options
+	 */
+	public void addObserver(LogObserver observer, DeliveryOptions options);
+	
 	/**
 	 * Remove a log observer
 	 * 
 	 * @param observer the observer to remove
 	 */
 	public void removeObserver(LogObserver observer);
+	
+	/**
+	 * Get the delivery statistics of a log observer
+	 * 
+	 * @param observer the observer
+	 * 
+	 * @return the delivery statistics or <code>null</code> if the observer
+	 *   is not registered
+	 */
+	public DeliveryStatistics getStatistics(LogObserver observer);
 
 }
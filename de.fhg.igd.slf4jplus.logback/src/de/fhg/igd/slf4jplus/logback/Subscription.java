@@ -0,0 +1,162 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.logback;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import ch.qos.logback.classic.Level;
+
+/**
+ * Describes the logging events a {@link LogObserver} is interested in. The
+ * status service only passes matching events to the observer, so it doesn't
+ * have to reject them itself. By default all events match.
+ * 
+ * @see DeliveryOptions#setSubscription(Subscription)
+ * 
+ * @author Simon Templer
+ */
+public class Subscription {
+	
+	private Level minimumLevel = Level.TRACE;
+	
+	private boolean userMessagesOnly = false;
+	
+	private boolean transactionEvents = true;
+	
+	private Set<String> bundles;
+	
+	/**
+	 * Create a subscription to all events
+	 */
+	public Subscription() {
+		super();
+	}
+	
+	/**
+	 * Create a copy of the given subscription
+	 * 
+	 * @param other the subscription to copy
+	 */
+	public Subscription(Subscription other) {
+		super();
+		this.minimumLevel = other.minimumLevel;
+		this.userMessagesOnly = other.userMessagesOnly;
+		this.transactionEvents = other.transactionEvents;
+		setBundles(other.bundles);
+	}
+	
+	/**
+	 * Determines if the subscription matches events with the given
+	 * properties, regardless of their bundle
+	 * 
+	 * @param level the event level
+	 * @param userMessage if the event is a user message
+	 * @param transactionEvent if the event begins or ends a transaction
+	 * 
+	 * @return if events with the given properties may match
+	 */
+	public boolean accepts(Level level, boolean userMessage,
+			boolean transactionEvent) {
+		return level.isGreaterOrEqual(minimumLevel)
+				&& (userMessage || !userMessagesOnly)
+				&& (transactionEvents || !transactionEvent);
+	}
+	
+	/**
+	 * Determines if the subscription matches events from the given bundle
+	 * 
+	 * @param bundleName the bundle name, may be <code>null</code>
+	 * 
+	 * @return if events from the bundle match
+	 */
+	public boolean acceptsBundle(String bundleName) {
+		return bundles == null || (bundleName != null && bundles.contains(bundleName));
+	}
+
+	/**
+	 * @return the minimum level of matching events
+	 */
+	public Level getMinimumLevel() {
+		return minimumLevel;
+	}
+
+	/**
+	 * @param minimumLevel the minimum level of matching events
+	 */
+	public void setMinimumLevel(Level minimumLevel) {
+		this.minimumLevel = minimumLevel;
+	}
+
+	/**
+	 * @return if only user messages match
+	 */
+	public boolean isUserMessagesOnly() {
+		return userMessagesOnly;
+	}
+
+	/**
+	 * @param userMessagesOnly if only user messages shall match
+	 */
+	public void setUserMessagesOnly(boolean userMessagesOnly) {
+		this.userMessagesOnly = userMessagesOnly;
+	}
+
+	/**
+	 * @return if events that begin or end a transaction match
+	 */
+	public boolean isTransactionEvents() {
+		return transactionEvents;
+	}
+
+	/**
+	 * @param transactionEvents if events that begin or end a transaction
+	 *   shall match
+	 */
+	public void setTransactionEvents(boolean transactionEvents) {
+		this.transactionEvents = transactionEvents;
+	}
+
+	/**
+	 * @return the names of the bundles whose events match, <code>null</code>
+	 *   if events from all bundles match
+	 */
+	public Set<String> getBundles() {
+		return bundles;
+	}
+
+	/**
+	 * @param bundles the names of the bundles whose events shall match,
+	 *   <code>null</code> for all bundles
+	 */
+	public void setBundles(Collection<String> bundles) {
+		if (bundles == null) {
+			this.bundles = null;
+		}
+		else {
+			this.bundles = Collections.unmodifiableSet(new HashSet<String>(bundles));
+		}
+	}
+
+}
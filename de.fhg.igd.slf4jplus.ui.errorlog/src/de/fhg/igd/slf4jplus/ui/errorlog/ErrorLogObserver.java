@@ -35,6 +35,7 @@ import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.spi.LoggingEvent;
 import ch.qos.logback.classic.spi.ThrowableProxy;
 import de.fhg.igd.slf4jplus.ALoggerUtil;
+import de.fhg.igd.slf4jplus.logback.Subscription;
 import de.fhg.igd.slf4jplus.logback.observer.EventGroup;
 import de.fhg.igd.slf4jplus.logback.observer.GroupAwareLogObserver;
 
@@ -48,7 +49,27 @@ public class ErrorLogObserver extends GroupAwareLogObserver {
 	private static final int MULTI_STATUS_AGGREGATE_THRESHOLD = 200;
 	private static final int MULTI_STATUS_AGGREGATE_GROUP_MAX = 100;
 	
-	private static final SimpleDateFormat TIME_FORMAT = new SimpleDateFormat("HH:mm:ss");
+	/**
+	 * Time format per thread, as events may be processed concurrently
+	 */
+	private static final ThreadLocal<SimpleDateFormat> TIME_FORMAT = new ThreadLocal<SimpleDateFormat>() {
+		
+		@Override
+		protected SimpleDateFormat initialValue() {
+			return new SimpleDateFormat("HH:mm:ss");
+		}
+		
+	};
+
+	/**
+	 * @return the subscription to the events accepted by
+	 *   {@link #acceptRawEvent(LoggingEvent)}
+	 */
+	public Subscription getSubscription() {
+		Subscription subscription = new Subscription();
+		subscription.setMinimumLevel(Level.INFO);
+		return subscription;
+	}
 
 	/**
 	 * @see GroupAwareLogObserver#acceptRawEvent(ch.qos.logback.classic.spi.LoggingEvent)
@@ -251,7 +272,7 @@ public class ErrorLogObserver extends GroupAwareLogObserver {
 			// include time in message
 			// (as it gets lost in MultiStatus)
 			Date date = new Date(event.getTimeStamp());
-			message = "[" + TIME_FORMAT.format(date) + "] " + message;
+			message = "[" + TIME_FORMAT.get().format(date) + "] " + message;
 		}
 		
 		// create status object
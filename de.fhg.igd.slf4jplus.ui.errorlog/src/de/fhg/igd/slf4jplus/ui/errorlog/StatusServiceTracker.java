@@ -24,7 +24,7 @@ package de.fhg.igd.slf4jplus.ui.errorlog;
 import org.osgi.framework.ServiceReference;
 import org.osgi.util.tracker.ServiceTrackerCustomizer;
 
-import de.fhg.igd.slf4jplus.logback.LogObserver;
+import de.fhg.igd.slf4jplus.logback.DeliveryOptions;
 import de.fhg.igd.slf4jplus.logback.StatusService;
 
 /**
@@ -34,7 +34,7 @@ import de.fhg.igd.slf4jplus.logback.StatusService;
  */
 public class StatusServiceTracker implements ServiceTrackerCustomizer<StatusService, StatusService> {
 	
-	private final LogObserver observer = new ErrorLogObserver();
+	private final ErrorLogObserver observer = new ErrorLogObserver();
 
 	/**
 	 * @see ServiceTrackerCustomizer#addingService(ServiceReference)
@@ -42,7 +42,9 @@ public class StatusServiceTracker implements ServiceTrackerCustomizer<StatusServ
 	@Override
 	public StatusService addingService(ServiceReference<StatusService> reference) {
 		StatusService ss = reference.getBundle().getBundleContext().getService(reference);
-		ss.addObserver(observer);
+		DeliveryOptions options = DeliveryOptions.direct();
+		options.setSubscription(observer.getSubscription());
+		ss.addObserver(observer, options);
 		return ss;
 	}
 
@@ -32,6 +32,7 @@ import java.util.Map.Entry;
 import ch.qos.logback.classic.Level;
 import ch.qos.logback.classic.spi.LoggingEvent;
 import de.fhg.igd.slf4jplus.ALoggerUtil;
+import de.fhg.igd.slf4jplus.logback.Subscription;
 import de.fhg.igd.slf4jplus.logback.observer.FlatLogObserver;
 
 /**
@@ -45,11 +46,21 @@ public class StatusObserver extends FlatLogObserver {
 	
 	private final HashMap<String, List<LoggingEvent>> userEvents = new LinkedHashMap<String, List<LoggingEvent>>();
 	
-	private Status currentStatus = Status.OK;
+	private volatile Status currentStatus = Status.OK;
 	
-	private int newMessages = 0;
+	private volatile int newMessages = 0;
 	
-	private int messages = 0;
+	private volatile int messages = 0;
+
+	/**
+	 * @return the subscription to the events accepted by the observer
+	 */
+	public Subscription getSubscription() {
+		Subscription subscription = new Subscription();
+		subscription.setUserMessagesOnly(true);
+		subscription.setTransactionEvents(false);
+		return subscription;
+	}
 
 	/**
 	 * @see FlatLogObserver#processEvent(LoggingEvent)
@@ -24,6 +24,7 @@ package de.fhg.igd.slf4jplus.ui.userstatus;
 import org.osgi.framework.ServiceReference;
 import org.osgi.util.tracker.ServiceTrackerCustomizer;
 
+import de.fhg.igd.slf4jplus.logback.DeliveryOptions;
 import de.fhg.igd.slf4jplus.logback.StatusService;
 
 /**
@@ -49,7 +50,9 @@ public class StatusServiceTracker implements
 	@Override
 	public StatusService addingService(ServiceReference<StatusService> reference) {
 		StatusService ss = reference.getBundle().getBundleContext().getService(reference);
-		ss.addObserver(observer);
+		DeliveryOptions options = DeliveryOptions.direct();
+		options.setSubscription(observer.getSubscription());
+		ss.addObserver(observer, options);
 		return ss;
 	}
 
@@ -0,0 +1,151 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.bench;
+
+import java.lang.management.ManagementFactory;
+
+import org.slf4j.LoggerFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import de.fhg.igd.slf4jplus.AGroup;
+import de.fhg.igd.slf4jplus.AGroupFactory;
+import de.fhg.igd.slf4jplus.ALogger;
+import de.fhg.igd.slf4jplus.ALoggerFactory;
+
+/**
+ * Checks that logging calls for a disabled level allocate nothing. Run it
+ * with the bundle classes, slf4j and Logback on the class path on a JVM
+ * that supports measuring thread allocations. The process exits with status
+ * <code>1</code> if a disabled call allocated memory. Calls with variable
+ * arguments are not checked, as the argument array is allocated by the
+ * caller.
+ * 
+ * @author Simon Templer
+ */
+public class DisabledLoggingAllocation {
+	
+	private static final int WARMUP = 200000;
+	
+	private static final int CALLS = 1000000;
+	
+	private static final Object ARG1 = "arg1";
+	
+	private static final Object ARG2 = "arg2";
+	
+	private static final Throwable ERROR = new Exception();
+	
+	private static final ALogger log = ALoggerFactory.getLogger(
+			DisabledLoggingAllocation.class, "de.fhg.igd.slf4jplus.bench");
+	
+	private static final AGroup group = AGroupFactory.getGroup("bench");
+	
+	private static final String[] NAMES = new String[] {
+		"trace(String)", "trace(String, Object)", "trace(String, Object, Object)",
+		"trace(String, Throwable)", "debug(AGroup, String)",
+		"debug(AGroup, String, Throwable)", "userInfo(AGroup, String)",
+		"atTrace()...log(String)", "trace(String, int)",
+		"trace(String, double)", "trace(String, long, long)",
+		"trace(String, double, double)", "trace(String, int, int)"
+	};
+
+	/**
+	 * Run the allocation check
+	 * 
+	 * @param args ignored
+	 */
+	public static void main(String[] args) {
+		Logger root = (Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+		root.setLevel(Level.WARN);
+		
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean)
+				ManagementFactory.getThreadMXBean();
+		long thread = Thread.currentThread().getId();
+		
+		boolean failed = false;
+		for (int call = 0; call < NAMES.length; call++) {
+			run(call, WARMUP);
+			
+			long before = threads.getThreadAllocatedBytes(thread);
+			run(call, CALLS);
+			long allocated = threads.getThreadAllocatedBytes(thread) - before;
+			
+			System.out.println(NAMES[call] + ": " + allocated + " bytes for "
+					+ CALLS + " calls");
+			if (allocated > 0) {
+				failed = true;
+			}
+		}
+		
+		if (failed) {
+			System.out.println("Disabled logging calls allocated memory");
+			System.exit(1);
+		}
+	}
+	
+	private static void run(int call, int count) {
+		for (int i = 0; i < count; i++) {
+			switch (call) {
+			case 0:
+				log.trace("message");
+				break;
+			case 1:
+				log.trace("message {}", ARG1);
+				break;
+			case 2:
+				log.trace("message {} {}", ARG1, ARG2);
+				break;
+			case 3:
+				log.trace("message", ERROR);
+				break;
+			case 4:
+				log.debug(group, "message");
+				break;
+			case 5:
+				log.debug(group, "message", ERROR);
+				break;
+			case 6:
+				log.userInfo(group, "message");
+				break;
+			case 7:
+				log.atTrace().arg(ARG1).log("message {}");
+				break;
+			case 8:
+				log.trace("message {}", i + 1000);
+				break;
+			case 9:
+				log.trace("message {}", i * 0.5);
+				break;
+			case 10:
+				log.trace("message {} {}", i + 1000L, i * 2000L);
+				break;
+			case 11:
+				log.trace("message {} {}", i * 0.5, i * 0.25);
+				break;
+			case 12:
+				log.trace("message {} {}", i + 1000, i * 2000);
+				break;
+			}
+		}
+	}
+
+}
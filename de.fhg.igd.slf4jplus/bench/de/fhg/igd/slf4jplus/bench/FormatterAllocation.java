@@ -0,0 +1,124 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.bench;
+
+import java.lang.management.ManagementFactory;
+
+import org.slf4j.helpers.MessageFormatter;
+
+import de.fhg.igd.slf4jplus.internal.ParameterFormatter;
+import de.fhg.igd.slf4jplus.internal.PrimitiveArguments;
+
+/**
+ * Compares the throughput and allocations of {@link ParameterFormatter} with
+ * the SLF4J {@link MessageFormatter}. Run it with the bundle classes and
+ * slf4j on the class path on a JVM that supports measuring thread
+ * allocations.
+ * 
+ * @author Simon Templer
+ */
+public class FormatterAllocation {
+	
+	private static final int WARMUP = 500000;
+	
+	private static final int CALLS = 2000000;
+	
+	private static final String[] NAMES = new String[] {
+		"no placeholder", "one argument", "two arguments", "three arguments",
+		"escaped placeholder", "long argument"
+	};
+	
+	private static final String[] FORMATS = new String[] {
+		"Message without placeholders",
+		"Processing {} started",
+		"Copied {} to {}",
+		"Item {} of {} in {}",
+		"Escaped \\{} and {}",
+		"Processed {} entries"
+	};
+	
+	private static final Object[][] ARGS = new Object[][] {
+		{ "unused" },
+		{ "request" },
+		{ "source.txt", "target.txt" },
+		{ "item", "list", "container" },
+		{ "value" },
+		{ Long.valueOf(123456789L) }
+	};
+	
+	private static long length;
+
+	/**
+	 * Run the benchmark
+	 * 
+	 * @param args ignored
+	 */
+	public static void main(String[] args) {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean)
+				ManagementFactory.getThreadMXBean();
+		long thread = Thread.currentThread().getId();
+		
+		System.out.println("message\tMessageFormatter calls/s\tbytes/call"
+				+ "\tParameterFormatter calls/s\tbytes/call");
+		for (int test = 0; test < NAMES.length; test++) {
+			StringBuilder line = new StringBuilder(NAMES[test]);
+			for (int formatter = 0; formatter < 2; formatter++) {
+				run(formatter, test, WARMUP);
+				
+				long bytes = threads.getThreadAllocatedBytes(thread);
+				long start = System.nanoTime();
+				run(formatter, test, CALLS);
+				long nanos = System.nanoTime() - start;
+				bytes = threads.getThreadAllocatedBytes(thread) - bytes;
+				
+				line.append('\t').append(CALLS * 1000000000L / nanos);
+				line.append('\t').append(bytes / CALLS);
+			}
+			System.out.println(line);
+		}
+		
+		// keep the formatted messages from being optimized away
+		System.out.println("formatted " + length + " characters");
+	}
+	
+	private static void run(int formatter, int test, int count) {
+		String format = FORMATS[test];
+		Object[] args = ARGS[test];
+		boolean primitive = args[0] instanceof Long;
+		long value = (primitive) ? (((Long) args[0]).longValue()) : (0);
+		for (int i = 0; i < count; i++) {
+			String message;
+			if (formatter == 0) {
+				message = MessageFormatter.arrayFormat(format, args).getMessage();
+			}
+			else if (primitive) {
+				message = ParameterFormatter.format(format, PrimitiveArguments.LONG,
+						value, PrimitiveArguments.NONE, 0);
+			}
+			else {
+				message = ParameterFormatter.format(format, args);
+			}
+			length += message.length();
+		}
+	}
+
+}
@@ -0,0 +1,149 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.bench;
+
+import java.lang.management.ManagementFactory;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import de.fhg.igd.slf4jplus.AGroup;
+import de.fhg.igd.slf4jplus.AGroupFactory;
+import de.fhg.igd.slf4jplus.ALogger;
+import de.fhg.igd.slf4jplus.internal.ALoggerImpl;
+import de.fhg.igd.slf4jplus.internal.LogbackALoggerImpl;
+
+/**
+ * Compares the throughput and allocations of enabled logging calls for a
+ * logger bound directly to Logback with the logger wrapping the SLF4J
+ * logger. The appender formats each message, but doesn't write it. Run it
+ * with the bundle classes, slf4j and Logback on the class path.
+ * 
+ * @author Simon Templer
+ */
+public class LoggerThroughput {
+	
+	private static final int WARMUP = 500000;
+	
+	private static final int CALLS = 2000000;
+	
+	private static final String BUNDLE = "de.fhg.igd.slf4jplus.bench";
+	
+	private static final Object ARG1 = "arg1";
+	
+	private static final Object ARG2 = "arg2";
+	
+	private static final AGroup group = AGroupFactory.getGroup("bench");
+	
+	private static final String[] NAMES = new String[] {
+		"info(String)", "info(String, Object)", "info(String, Object, Object)",
+		"info(AGroup, String)", "userInfo(String)", "info(String, long)"
+	};
+	
+	/**
+	 * Appender that formats the messages
+	 */
+	private static class FormattingAppender extends AppenderBase<ILoggingEvent> {
+		
+		private long length;
+
+		@Override
+		protected void append(ILoggingEvent event) {
+			length += event.getFormattedMessage().length();
+		}
+		
+	}
+
+	/**
+	 * Run the benchmark
+	 * 
+	 * @param args ignored
+	 */
+	public static void main(String[] args) {
+		LoggerContext context = new LoggerContext();
+		FormattingAppender appender = new FormattingAppender();
+		appender.setContext(context);
+		appender.start();
+		Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+		root.setLevel(Level.INFO);
+		root.addAppender(appender);
+		
+		Logger logger = context.getLogger(LoggerThroughput.class);
+		ALogger wrapper = new ALoggerImpl(logger, BUNDLE);
+		ALogger direct = new LogbackALoggerImpl(logger, BUNDLE,
+				ALoggerImpl.class.getName());
+		
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean)
+				ManagementFactory.getThreadMXBean();
+		long thread = Thread.currentThread().getId();
+		
+		System.out.println("call\twrapper calls/s\twrapper bytes/call"
+				+ "\tdirect calls/s\tdirect bytes/call");
+		for (int call = 0; call < NAMES.length; call++) {
+			StringBuilder line = new StringBuilder(NAMES[call]);
+			for (ALogger log : new ALogger[] { wrapper, direct }) {
+				run(log, call, WARMUP);
+				
+				long bytes = threads.getThreadAllocatedBytes(thread);
+				long start = System.nanoTime();
+				run(log, call, CALLS);
+				long nanos = System.nanoTime() - start;
+				bytes = threads.getThreadAllocatedBytes(thread) - bytes;
+				
+				line.append('\t').append(CALLS * 1000000000L / nanos);
+				line.append('\t').append(bytes / CALLS);
+			}
+			System.out.println(line);
+		}
+		
+		// keep the formatted messages from being optimized away
+		System.out.println("formatted " + appender.length + " characters");
+	}
+	
+	private static void run(ALogger log, int call, int count) {
+		for (int i = 0; i < count; i++) {
+			switch (call) {
+			case 0:
+				log.info("message");
+				break;
+			case 1:
+				log.info("message {}", ARG1);
+				break;
+			case 2:
+				log.info("message {} {}", ARG1, ARG2);
+				break;
+			case 3:
+				log.info(group, "message");
+				break;
+			case 4:
+				log.userInfo("message");
+				break;
+			case 5:
+				log.info("message {}", i * 1000L);
+				break;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,86 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus;
+
+import java.util.function.Supplier;
+
+/**
+ * Builder for a single log message, created through one of the
+ * <code>at...</code> methods of an {@link ALogger}, e.g.
+ * <code>logger.atWarn().user().group(group).arg(x).log("...")</code>.
+ * If the level is disabled a builder is returned that ignores all calls.
+ * Builders are reused, so a builder must not be used any more after one of
+ * its <code>log</code> methods was called.
+ * 
+ * @author Simon Templer
+ */
+public interface AEventBuilder {
+	
+	/**
+	 * Mark the message as user message
+	 * 
+	 * @return this builder
+	 */
+	public AEventBuilder user();
+	
+	/**
+	 * Set the message group
+	 * 
+	 * @param group the message group, may be <code>null</code>
+	 * 
+	 * @return this builder
+	 */
+	public AEventBuilder group(AGroup group);
+	
+	/**
+	 * Set the throwable to log
+	 * 
+	 * @param t the throwable, may be <code>null</code>
+	 * 
+	 * @return this builder
+	 */
+	public AEventBuilder cause(Throwable t);
+	
+	/**
+	 * Add a format argument
+	 * 
+	 * @param arg the argument
+	 * 
+	 * @return this builder
+	 */
+	public AEventBuilder arg(Object arg);
+	
+	/**
+	 * Log the message
+	 * 
+	 * @param format the message or message format
+	 */
+	public void log(String format);
+	
+	/**
+	 * Log the message, the message is only created if the level is enabled
+	 * 
+	 * @param msg the message supplier
+	 */
+	public void log(Supplier<String> msg);
+
+}
@@ -21,19 +21,52 @@
 
 package de.fhg.igd.slf4jplus;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import de.fhg.igd.slf4jplus.internal.AGroupImpl;
 
 /**
- * Factory for log groups
+ * Factory for log groups. Groups are only weakly referenced by the factory,
+ * so groups that are no longer in use may be garbage collected.
  * 
  * @author Simon Templer
  */
 public abstract class AGroupFactory {
 	
-	private static final Map<String, AGroup> groups = new HashMap<String, AGroup>();
+	/**
+	 * Weak reference to a group
+	 */
+	private static final class GroupReference extends WeakReference<AGroup> {
+		
+		private final String name;
+
+		/**
+		 * Create a weak reference to a group
+		 * 
+		 * @param name the group name
+		 * @param group the group
+		 * @param queue the reference queue
+		 */
+		public GroupReference(String name, AGroup group,
+				ReferenceQueue<AGroup> queue) {
+			super(group, queue);
+			this.name = name;
+		}
+		
+	}
+	
+	private static final ConcurrentMap<String, GroupReference> groups = new ConcurrentHashMap<String, GroupReference>();
+	
+	private static final ReferenceQueue<AGroup> queue = new ReferenceQueue<AGroup>();
+	
+	private static final LongAdder hits = new LongAdder();
+	
+	private static final LongAdder misses = new LongAdder();
 	
 	/**
 	 * Get the group with the given name
@@ -43,15 +76,93 @@ public abstract class AGroupFactory {
 	 * @return the group
 	 */
 	public static AGroup getGroup(String name) {
-		AGroup group;
-		synchronized (groups) {
-			group = groups.get(name);
-			if (group == null) {
-				group = new AGroupImpl(name);
-				groups.put(name, group);
+		expungeStaleEntries();
+		
+		GroupReference ref = groups.get(name);
+		if (ref != null) {
+			AGroup group = ref.get();
+			if (group != null) {
+				hits.increment();
+				return group;
+			}
+		}
+		
+		misses.increment();
+		AGroup group = new AGroupImpl(name);
+		GroupReference newRef = new GroupReference(name, group, queue);
+		while (true) {
+			GroupReference existing = groups.putIfAbsent(name, newRef);
+			if (existing == null) {
+				return group;
+			}
+			
+			AGroup other = existing.get();
+			if (other != null) {
+				// another thread was faster
+				return other;
+			}
+			
+			if (groups.replace(name, existing, newRef)) {
+				return group;
 			}
 		}
-		return group;
+	}
+	
+	/**
+	 * Remove the entries of garbage collected groups
+	 */
+	private static void expungeStaleEntries() {
+		Reference<? extends AGroup> ref;
+		while ((ref = queue.poll()) != null) {
+			GroupReference groupRef = (GroupReference) ref;
+			groups.remove(groupRef.name, groupRef);
+		}
+	}
+	
+	/**
+	 * Get the number of groups in the group registry. This may include groups
+	 * that have been garbage collected but whose entries were not removed yet.
+	 * 
+	 * @return the number of registered groups
+	 */
+	public static int getRegistrySize() {
+		expungeStaleEntries();
+		return groups.size();
+	}
+	
+	/**
+	 * Get the number of {@link #getGroup(String)} calls that returned an
+	 * existing group
+	 * 
+	 * @return the number of registry hits
+	 */
+	public static long getHitCount() {
+		return hits.sum();
+	}
+	
+	/**
+	 * Get the number of {@link #getGroup(String)} calls that created a new
+	 * group
+	 * 
+	 * @return the number of registry misses
+	 */
+	public static long getMissCount() {
+		return misses.sum();
+	}
+	
+	/**
+	 * Get the ratio of {@link #getGroup(String)} calls that returned an
+	 * existing group
+	 * 
+	 * @return the registry hit rate, between zero and one
+	 */
+	public static double getHitRate() {
+		long hitCount = hits.sum();
+		long total = hitCount + misses.sum();
+		if (total == 0) {
+			return 0;
+		}
+		return (double) hitCount / total;
 	}
 
 }
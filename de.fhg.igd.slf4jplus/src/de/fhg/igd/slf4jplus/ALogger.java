@@ -21,6 +21,9 @@
 
 package de.fhg.igd.slf4jplus;
 
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
 import org.slf4j.Logger;
 import org.slf4j.Marker;
 
@@ -53,6 +56,30 @@ public interface ALogger extends ALoggerConstants, Logger {
 	 */
 	public ATransaction begin(String msg);
 	
+	/**
+	 * Run a task in a log transaction that is ended when the task is done.
+	 * The transaction is bound to the scope of the task, on a JDK providing
+	 * scoped values it is inherited by the subtasks of structured scopes
+	 * opened by the task.
+	 * 
+	 * @param msg the transaction name/message
+	 * @param task the task to run
+	 */
+	public void run(String msg, Runnable task);
+	
+	/**
+	 * Call a task in a log transaction that is ended when the task is done.
+	 * 
+	 * @param msg the transaction name/message
+	 * @param task the task to call
+	 * 
+	 * @return the result of the task
+	 * @throws Exception if the task throws an exception
+	 * 
+	 * @see #run(String, Runnable)
+	 */
+	public <T> T call(String msg, Callable<T> task) throws Exception;
+	
 	// convenience methods
 	
 	/**
@@ -236,4 +263,1936 @@ public interface ALogger extends ALoggerConstants, Logger {
 	 */
 	public void userError(AGroup parent, String msg, Throwable t);
 
+	
+	// lazily created messages
+	
+	/**
+	 * Log a message at the TRACE level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param msg the message supplier
+	 */
+	public void trace(Supplier<String> msg);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param msg the message supplier
+	 * @param t the throwable to log
+	 */
+	public void trace(Supplier<String> msg, Throwable t);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param msg the message supplier
+	 */
+	public void debug(Supplier<String> msg);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param msg the message supplier
+	 * @param t the throwable to log
+	 */
+	public void debug(Supplier<String> msg, Throwable t);
+	
+	/**
+	 * Log a message at the INFO level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param msg the message supplier
+	 */
+	public void info(Supplier<String> msg);
+	
+	/**
+	 * Log a message at the INFO level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param msg the message supplier
+	 * @param t the throwable to log
+	 */
+	public void info(Supplier<String> msg, Throwable t);
+	
+	/**
+	 * Log a message at the WARN level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param msg the message supplier
+	 */
+	public void warn(Supplier<String> msg);
+	
+	/**
+	 * Log a message at the WARN level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param msg the message supplier
+	 * @param t the throwable to log
+	 */
+	public void warn(Supplier<String> msg, Throwable t);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param msg the message supplier
+	 */
+	public void error(Supplier<String> msg);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param msg the message supplier
+	 * @param t the throwable to log
+	 */
+	public void error(Supplier<String> msg, Throwable t);
+	
+	/**
+	 * Log a user message at the INFO level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param msg the message supplier
+	 */
+	public void userInfo(Supplier<String> msg);
+	
+	/**
+	 * Log a user message at the INFO level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param msg the message supplier
+	 * @param t the throwable to log
+	 */
+	public void userInfo(Supplier<String> msg, Throwable t);
+	
+	/**
+	 * Log a user message at the WARN level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param msg the message supplier
+	 */
+	public void userWarn(Supplier<String> msg);
+	
+	/**
+	 * Log a user message at the WARN level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param msg the message supplier
+	 * @param t the throwable to log
+	 */
+	public void userWarn(Supplier<String> msg, Throwable t);
+	
+	/**
+	 * Log a user message at the ERROR level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param msg the message supplier
+	 */
+	public void userError(Supplier<String> msg);
+	
+	/**
+	 * Log a user message at the ERROR level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param msg the message supplier
+	 * @param t the throwable to log
+	 */
+	public void userError(Supplier<String> msg, Throwable t);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param parent the message group, may be <code>null</code>
+	 * @param msg the message supplier
+	 */
+	public void trace(AGroup parent, Supplier<String> msg);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param parent the message group, may be <code>null</code>
+	 * @param msg the message supplier
+	 * @param t the throwable to log
+	 */
+	public void trace(AGroup parent, Supplier<String> msg, Throwable t);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param parent the message group, may be <code>null</code>
+	 * @param msg the message supplier
+	 */
+	public void debug(AGroup parent, Supplier<String> msg);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param parent the message group, may be <code>null</code>
+	 * @param msg the message supplier
+	 * @param t the throwable to log
+	 */
+	public void debug(AGroup parent, Supplier<String> msg, Throwable t);
+	
+	/**
+	 * Log a message at the INFO level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param parent the message group, may be <code>null</code>
+	 * @param msg the message supplier
+	 */
+	public void info(AGroup parent, Supplier<String> msg);
+	
+	/**
+	 * Log a message at the INFO level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param parent the message group, may be <code>null</code>
+	 * @param msg the message supplier
+	 * @param t the throwable to log
+	 */
+	public void info(AGroup parent, Supplier<String> msg, Throwable t);
+	
+	/**
+	 * Log a message at the WARN level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param parent the message group, may be <code>null</code>
+	 * @param msg the message supplier
+	 */
+	public void warn(AGroup parent, Supplier<String> msg);
+	
+	/**
+	 * Log a message at the WARN level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param parent the message group, may be <code>null</code>
+	 * @param msg the message supplier
+	 * @param t the throwable to log
+	 */
+	public void warn(AGroup parent, Supplier<String> msg, Throwable t);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param parent the message group, may be <code>null</code>
+	 * @param msg the message supplier
+	 */
+	public void error(AGroup parent, Supplier<String> msg);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param parent the message group, may be <code>null</code>
+	 * @param msg the message supplier
+	 * @param t the throwable to log
+	 */
+	public void error(AGroup parent, Supplier<String> msg, Throwable t);
+	
+	/**
+	 * Log a user message at the INFO level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param parent the message group, may be <code>null</code>
+	 * @param msg the message supplier
+	 */
+	public void userInfo(AGroup parent, Supplier<String> msg);
+	
+	/**
+	 * Log a user message at the INFO level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param parent the message group, may be <code>null</code>
+	 * @param msg the message supplier
+	 * @param t the throwable to log
+	 */
+	public void userInfo(AGroup parent, Supplier<String> msg, Throwable t);
+	
+	/**
+	 * Log a user message at the WARN level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param parent the message group, may be <code>null</code>
+	 * @param msg the message supplier
+	 */
+	public void userWarn(AGroup parent, Supplier<String> msg);
+	
+	/**
+	 * Log a user message at the WARN level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param parent the message group, may be <code>null</code>
+	 * @param msg the message supplier
+	 * @param t the throwable to log
+	 */
+	public void userWarn(AGroup parent, Supplier<String> msg, Throwable t);
+	
+	/**
+	 * Log a user message at the ERROR level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param parent the message group, may be <code>null</code>
+	 * @param msg the message supplier
+	 */
+	public void userError(AGroup parent, Supplier<String> msg);
+	
+	/**
+	 * Log a user message at the ERROR level, the message is only created if
+	 * the level is enabled
+	 * 
+	 * @param parent the message group, may be <code>null</code>
+	 * @param msg the message supplier
+	 * @param t the throwable to log
+	 */
+	public void userError(AGroup parent, Supplier<String> msg, Throwable t);
+	
+	// formatted messages
+	
+	/**
+	 * Log a user message at the INFO level, the message is only formatted if
+	 * the level is enabled
+	 * 
+	 * @param format the message format
+	 * @param args the format arguments, a throwable as last argument is
+	 *   logged as such
+	 */
+	public void userInfo(String format, Object... args);
+	
+	/**
+	 * Log a user message at the WARN level, the message is only formatted if
+	 * the level is enabled
+	 * 
+	 * @param format the message format
+	 * @param args the format arguments, a throwable as last argument is
+	 *   logged as such
+	 */
+	public void userWarn(String format, Object... args);
+	
+	/**
+	 * Log a user message at the ERROR level, the message is only formatted if
+	 * the level is enabled
+	 * 
+	 * @param format the message format
+	 * @param args the format arguments, a throwable as last argument is
+	 *   logged as such
+	 */
+	public void userError(String format, Object... args);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if
+	 * the level is enabled
+	 * 
+	 * @param parent the message group, may be <code>null</code>
+	 * @param format the message format
+	 * @param args the format arguments, a throwable as last argument is
+	 *   logged as such
+	 */
+	public void trace(AGroup parent, String format, Object... args);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if
+	 * the level is enabled
+	 * 
+	 * @param parent the message group, may be <code>null</code>
+	 * @param format the message format
+	 * @param args the format arguments, a throwable as last argument is
+	 *   logged as such
+	 */
+	public void debug(AGroup parent, String format, Object... args);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if
+	 * the level is enabled
+	 * 
+	 * @param parent the message group, may be <code>null</code>
+	 * @param format the message format
+	 * @param args the format arguments, a throwable as last argument is
+	 *   logged as such
+	 */
+	public void info(AGroup parent, String format, Object... args);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if
+	 * the level is enabled
+	 * 
+	 * @param parent the message group, may be <code>null</code>
+	 * @param format the message format
+	 * @param args the format arguments, a throwable as last argument is
+	 *   logged as such
+	 */
+	public void warn(AGroup parent, String format, Object... args);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if
+	 * the level is enabled
+	 * 
+	 * @param parent the message group, may be <code>null</code>
+	 * @param format the message format
+	 * @param args the format arguments, a throwable as last argument is
+	 *   logged as such
+	 */
+	public void error(AGroup parent, String format, Object... args);
+	
+	/**
+	 * Log a user message at the INFO level, the message is only formatted if
+	 * the level is enabled
+	 * 
+	 * @param parent the message group, may be <code>null</code>
+	 * @param format the message format
+	 * @param args the format arguments, a throwable as last argument is
+	 *   logged as such
+	 */
+	public void userInfo(AGroup parent, String format, Object... args);
+	
+	/**
+	 * Log a user message at the WARN level, the message is only formatted if
+	 * the level is enabled
+	 * 
+	 * @param parent the message group, may be <code>null</code>
+	 * @param format the message format
+	 * @param args the format arguments, a throwable as last argument is
+	 *   logged as such
+	 */
+	public void userWarn(AGroup parent, String format, Object... args);
+	
+	/**
+	 * Log a user message at the ERROR level, the message is only formatted if
+	 * the level is enabled
+	 * 
+	 * @param parent the message group, may be <code>null</code>
+	 * @param format the message format
+	 * @param args the format arguments, a throwable as last argument is
+	 *   logged as such
+	 */
+	public void userError(AGroup parent, String format, Object... args);
+	
+	// primitive arguments, the message is formatted without boxing; types
+	// that would be widened have own overloads, so they print like objects,
+	// for two arguments there is an overload for each combination of types
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg the argument
+	 */
+	public void trace(String format, int arg);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg the argument
+	 */
+	public void trace(String format, long arg);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg the argument
+	 */
+	public void trace(String format, float arg);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg the argument
+	 */
+	public void trace(String format, double arg);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg the argument
+	 */
+	public void trace(String format, char arg);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void trace(String format, int arg1, int arg2);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void trace(String format, int arg1, long arg2);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void trace(String format, int arg1, float arg2);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void trace(String format, int arg1, double arg2);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void trace(String format, int arg1, char arg2);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void trace(String format, long arg1, int arg2);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void trace(String format, long arg1, long arg2);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void trace(String format, long arg1, float arg2);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void trace(String format, long arg1, double arg2);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void trace(String format, long arg1, char arg2);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void trace(String format, float arg1, int arg2);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void trace(String format, float arg1, long arg2);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void trace(String format, float arg1, float arg2);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void trace(String format, float arg1, double arg2);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void trace(String format, float arg1, char arg2);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void trace(String format, double arg1, int arg2);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void trace(String format, double arg1, long arg2);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void trace(String format, double arg1, float arg2);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void trace(String format, double arg1, double arg2);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void trace(String format, double arg1, char arg2);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void trace(String format, char arg1, int arg2);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void trace(String format, char arg1, long arg2);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void trace(String format, char arg1, float arg2);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void trace(String format, char arg1, double arg2);
+	
+	/**
+	 * Log a message at the TRACE level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void trace(String format, char arg1, char arg2);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg the argument
+	 */
+	public void debug(String format, int arg);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg the argument
+	 */
+	public void debug(String format, long arg);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg the argument
+	 */
+	public void debug(String format, float arg);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg the argument
+	 */
+	public void debug(String format, double arg);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg the argument
+	 */
+	public void debug(String format, char arg);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void debug(String format, int arg1, int arg2);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void debug(String format, int arg1, long arg2);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void debug(String format, int arg1, float arg2);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void debug(String format, int arg1, double arg2);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void debug(String format, int arg1, char arg2);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void debug(String format, long arg1, int arg2);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void debug(String format, long arg1, long arg2);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void debug(String format, long arg1, float arg2);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void debug(String format, long arg1, double arg2);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void debug(String format, long arg1, char arg2);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void debug(String format, float arg1, int arg2);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void debug(String format, float arg1, long arg2);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void debug(String format, float arg1, float arg2);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void debug(String format, float arg1, double arg2);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void debug(String format, float arg1, char arg2);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void debug(String format, double arg1, int arg2);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void debug(String format, double arg1, long arg2);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void debug(String format, double arg1, float arg2);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void debug(String format, double arg1, double arg2);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void debug(String format, double arg1, char arg2);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void debug(String format, char arg1, int arg2);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void debug(String format, char arg1, long arg2);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void debug(String format, char arg1, float arg2);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void debug(String format, char arg1, double arg2);
+	
+	/**
+	 * Log a message at the DEBUG level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void debug(String format, char arg1, char arg2);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg the argument
+	 */
+	public void info(String format, int arg);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg the argument
+	 */
+	public void info(String format, long arg);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg the argument
+	 */
+	public void info(String format, float arg);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg the argument
+	 */
+	public void info(String format, double arg);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg the argument
+	 */
+	public void info(String format, char arg);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void info(String format, int arg1, int arg2);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void info(String format, int arg1, long arg2);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void info(String format, int arg1, float arg2);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void info(String format, int arg1, double arg2);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void info(String format, int arg1, char arg2);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void info(String format, long arg1, int arg2);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void info(String format, long arg1, long arg2);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void info(String format, long arg1, float arg2);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void info(String format, long arg1, double arg2);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void info(String format, long arg1, char arg2);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void info(String format, float arg1, int arg2);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void info(String format, float arg1, long arg2);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void info(String format, float arg1, float arg2);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void info(String format, float arg1, double arg2);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void info(String format, float arg1, char arg2);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void info(String format, double arg1, int arg2);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void info(String format, double arg1, long arg2);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void info(String format, double arg1, float arg2);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void info(String format, double arg1, double arg2);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void info(String format, double arg1, char arg2);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void info(String format, char arg1, int arg2);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void info(String format, char arg1, long arg2);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void info(String format, char arg1, float arg2);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void info(String format, char arg1, double arg2);
+	
+	/**
+	 * Log a message at the INFO level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void info(String format, char arg1, char arg2);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg the argument
+	 */
+	public void warn(String format, int arg);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg the argument
+	 */
+	public void warn(String format, long arg);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg the argument
+	 */
+	public void warn(String format, float arg);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg the argument
+	 */
+	public void warn(String format, double arg);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg the argument
+	 */
+	public void warn(String format, char arg);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void warn(String format, int arg1, int arg2);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void warn(String format, int arg1, long arg2);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void warn(String format, int arg1, float arg2);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void warn(String format, int arg1, double arg2);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void warn(String format, int arg1, char arg2);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void warn(String format, long arg1, int arg2);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void warn(String format, long arg1, long arg2);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void warn(String format, long arg1, float arg2);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void warn(String format, long arg1, double arg2);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void warn(String format, long arg1, char arg2);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void warn(String format, float arg1, int arg2);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void warn(String format, float arg1, long arg2);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void warn(String format, float arg1, float arg2);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void warn(String format, float arg1, double arg2);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void warn(String format, float arg1, char arg2);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void warn(String format, double arg1, int arg2);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void warn(String format, double arg1, long arg2);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void warn(String format, double arg1, float arg2);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void warn(String format, double arg1, double arg2);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void warn(String format, double arg1, char arg2);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void warn(String format, char arg1, int arg2);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void warn(String format, char arg1, long arg2);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void warn(String format, char arg1, float arg2);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void warn(String format, char arg1, double arg2);
+	
+	/**
+	 * Log a message at the WARN level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void warn(String format, char arg1, char arg2);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg the argument
+	 */
+	public void error(String format, int arg);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg the argument
+	 */
+	public void error(String format, long arg);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg the argument
+	 */
+	public void error(String format, float arg);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg the argument
+	 */
+	public void error(String format, double arg);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg the argument
+	 */
+	public void error(String format, char arg);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void error(String format, int arg1, int arg2);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void error(String format, int arg1, long arg2);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void error(String format, int arg1, float arg2);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void error(String format, int arg1, double arg2);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void error(String format, int arg1, char arg2);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void error(String format, long arg1, int arg2);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void error(String format, long arg1, long arg2);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void error(String format, long arg1, float arg2);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void error(String format, long arg1, double arg2);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void error(String format, long arg1, char arg2);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void error(String format, float arg1, int arg2);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void error(String format, float arg1, long arg2);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void error(String format, float arg1, float arg2);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void error(String format, float arg1, double arg2);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void error(String format, float arg1, char arg2);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void error(String format, double arg1, int arg2);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void error(String format, double arg1, long arg2);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void error(String format, double arg1, float arg2);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void error(String format, double arg1, double arg2);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void error(String format, double arg1, char arg2);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void error(String format, char arg1, int arg2);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void error(String format, char arg1, long arg2);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void error(String format, char arg1, float arg2);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void error(String format, char arg1, double arg2);
+	
+	/**
+	 * Log a message at the ERROR level, the message is only formatted if the
+	 * level is enabled
+	 * 
+	 * @param format the message format
+	 * @param arg1 the first argument
+	 * @param arg2 the second argument
+	 */
+	public void error(String format, char arg1, char arg2);
+	
+	// message builders
+	
+	/**
+	 * Start building a message at the TRACE level
+	 * 
+	 * @return the message builder, it ignores all calls if the level is
+	 *   disabled
+	 */
+	public AEventBuilder atTrace();
+	
+	/**
+	 * Start building a message at the DEBUG level
+	 * 
+	 * @return the message builder, it ignores all calls if the level is
+	 *   disabled
+	 */
+	public AEventBuilder atDebug();
+	
+	/**
+	 * Start building a message at the INFO level
+	 * 
+	 * @return the message builder, it ignores all calls if the level is
+	 *   disabled
+	 */
+	public AEventBuilder atInfo();
+	
+	/**
+	 * Start building a message at the WARN level
+	 * 
+	 * @return the message builder, it ignores all calls if the level is
+	 *   disabled
+	 */
+	public AEventBuilder atWarn();
+	
+	/**
+	 * Start building a message at the ERROR level
+	 * 
+	 * @return the message builder, it ignores all calls if the level is
+	 *   disabled
+	 */
+	public AEventBuilder atError();
+
 }
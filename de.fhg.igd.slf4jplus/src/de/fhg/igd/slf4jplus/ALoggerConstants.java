@@ -71,6 +71,12 @@ public interface ALoggerConstants {
 	 */
 	public static final String MDC_TRANSACTIONS_SEPARATOR = ";";
 	
+	/**
+	 * Marker name of the marker holding the open transactions, used instead
+	 * of the MDC transactions property if enabled
+	 */
+	public static final String TRANSACTIONS_MARKER_NAME = "TRANSACTIONS";
+	
 	/**
 	 * Marker name for messages that define a new group
 	 */
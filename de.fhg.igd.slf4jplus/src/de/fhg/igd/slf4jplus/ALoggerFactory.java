@@ -21,12 +21,17 @@
 
 package de.fhg.igd.slf4jplus;
 
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collection;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import de.fhg.igd.slf4jplus.internal.ALoggerCache;
 import de.fhg.igd.slf4jplus.internal.ALoggerImpl;
+import de.fhg.igd.slf4jplus.internal.TransactionStatisticsRegistry;
 
 
 /**
@@ -35,6 +40,67 @@ import de.fhg.igd.slf4jplus.internal.ALoggerImpl;
  * @author Simon Templer
  */
 public abstract class ALoggerFactory {
+	
+	/**
+	 * Method handles to determine the bundle name through
+	 * {@link org.osgi.framework.BundleReference}, the handles are
+	 * <code>null</code> if the OSGi framework classes are not available
+	 */
+	private static final class BundleMethods {
+		
+		private static final Class<?> BUNDLE_REFERENCE;
+		
+		private static final MethodHandle GET_BUNDLE;
+		
+		private static final MethodHandle GET_SYMBOLIC_NAME;
+		
+		static {
+			/*
+			 * Doing this with reflections to allow org.osgi.framework as optional dependency:
+			 * if (classLoader instanceof BundleReference) {
+			 *   bundleName = ((BundleReference) classLoader).getBundle().getSymbolicName();
+			 * }
+			 */
+			Class<?> bundleReferenceClass = null;
+			MethodHandle getBundle = null;
+			MethodHandle getSymbolicName = null;
+			try {
+				bundleReferenceClass = Class.forName("org.osgi.framework.BundleReference");
+				Class<?> bundleClass = Class.forName("org.osgi.framework.Bundle");
+				MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+				MethodType objectType = MethodType.methodType(Object.class, Object.class);
+				getBundle = lookup.findVirtual(bundleReferenceClass, "getBundle",
+						MethodType.methodType(bundleClass)).asType(objectType);
+				getSymbolicName = lookup.findVirtual(bundleClass, "getSymbolicName",
+						MethodType.methodType(String.class)).asType(objectType);
+			} catch (Throwable e) {
+				// OSGi not available
+				bundleReferenceClass = null;
+				getBundle = null;
+				getSymbolicName = null;
+			}
+			BUNDLE_REFERENCE = bundleReferenceClass;
+			GET_BUNDLE = getBundle;
+			GET_SYMBOLIC_NAME = getSymbolicName;
+		}
+		
+	}
+	
+	/**
+	 * Bundle names determined per class
+	 */
+	private static final ClassValue<String> bundleNames = new ClassValue<String>() {
+
+		@Override
+		protected String computeValue(Class<?> type) {
+			return determineBundleName(type);
+		}
+		
+	};
+	
+	private static final ALoggerCache loggers = new ALoggerCache();
+	
+	private static final String DEFAULT_FQCN = ALoggerImpl.class.getName();
 
 	/**
 	 * Get an {@link ALogger} instance by name.
@@ -47,11 +113,11 @@ public abstract class ALoggerFactory {
 	 * @see LoggerFactory#getLogger(String)
 	 */
 	public static ALogger getLogger(String name, String bundleName) {
-		return new ALoggerImpl(LoggerFactory.getLogger(name), bundleName);
+		return loggers.getLogger(name, bundleName, DEFAULT_FQCN);
 	}
 
 	/**
-	 * Get a new {@link ALogger} instance by class.
+	 * Get an {@link ALogger} instance by class.
 	 * 
 	 * @param clazz the class
 	 * @param bundleName the symbolic name of the OSGi bundle originating the
@@ -62,14 +128,14 @@ public abstract class ALoggerFactory {
 	 */
 	public static ALogger getLogger(Class<?> clazz, String bundleName) {
 		if (bundleName == null) {
-			bundleName = determineBundleName(clazz);
+			bundleName = bundleNames.get(clazz);
 		}
 		
-		return new ALoggerImpl(LoggerFactory.getLogger(clazz), bundleName);
+		return loggers.getLogger(clazz.getName(), bundleName, DEFAULT_FQCN);
 	}
 	
 	/**
-	 * Get a new {@link ALogger} instance by class. Calls from the given class
+	 * Get an {@link ALogger} instance by class. Calls from the given class
 	 * will be removed from the stack trace when determining location information. 
 	 * 
 	 * @param clazz the class
@@ -81,34 +147,27 @@ public abstract class ALoggerFactory {
 	 */
 	public static ALogger getMaskingLogger(Class<?> clazz, String bundleName) {
 		if (bundleName == null) {
-			bundleName = determineBundleName(clazz);
+			bundleName = bundleNames.get(clazz);
 		}
 		
-		return new ALoggerImpl(LoggerFactory.getLogger(clazz), bundleName, clazz.getName());
+		return loggers.getLogger(clazz.getName(), bundleName, clazz.getName());
 	}
 	
 	private static String determineBundleName(Class<?> clazz) {
 		// try to automatically determine the bundle name
 		ClassLoader classLoader = clazz.getClassLoader();
 		
-		/*
-		 * Doing this with reflections to allow org.osgi.framework as optional dependency:
-		 * if (classLoader instanceof BundleReference) {
-		 *   bundleName = ((BundleReference) classLoader).getBundle().getSymbolicName();
-		 * }
-		 */
+		if (BundleMethods.GET_BUNDLE == null
+				|| !BundleMethods.BUNDLE_REFERENCE.isInstance(classLoader)) {
+			return null;
+		}
+		
 		try {
-			Class<?> bundleReferenceClass = Class.forName("org.osgi.framework.BundleReference");
-			Class<?> bundleClass = Class.forName("org.osgi.framework.Bundle");
-			if (bundleReferenceClass.isInstance(classLoader)) {
-				Method getBundleMethod = bundleReferenceClass.getMethod("getBundle");
-				Object bundle = getBundleMethod.invoke(classLoader);
-				if (bundleClass.isInstance(bundle)) {
-					Method getSymbolicNameMethod = bundleClass.getMethod("getSymbolicName");
-					Object name = getSymbolicNameMethod.invoke(bundle);
-					if (name instanceof String) {
-						return (String) name;
-					}
+			Object bundle = (Object) BundleMethods.GET_BUNDLE.invokeExact((Object) classLoader);
+			if (bundle != null) {
+				Object name = (Object) BundleMethods.GET_SYMBOLIC_NAME.invokeExact(bundle);
+				if (name instanceof String) {
+					return (String) name;
 				}
 			}
 		} catch (Throwable e) {
@@ -119,7 +178,7 @@ public abstract class ALoggerFactory {
 	}
 
 	/**
-	 * Get a new {@link ALogger} instance by class. The bundle name will be
+	 * Get an {@link ALogger} instance by class. The bundle name will be
 	 * determined automatically if the class loader of the given class is an
 	 * instance of {@link org.osgi.framework.BundleReference}
 	 * 
@@ -131,5 +190,117 @@ public abstract class ALoggerFactory {
 	public static ALogger getLogger(Class<?> clazz) {
 		return getLogger(clazz, null);
 	}
+	
+	/**
+	 * Set the generator used to create the identifiers of new log
+	 * transactions.
+	 * 
+	 * @param generator the transaction identifier generator, <code>null</code>
+	 *   to use the default generator
+	 */
+	public static void setTransactionIdGenerator(TransactionIdGenerator generator) {
+		ALoggerImpl.setTransactionIdGenerator(generator);
+	}
+
+	
+	/**
+	 * Set if the MDC property with the open transactions should be updated as
+	 * soon as a transaction begins. By default it is only updated when a
+	 * message is logged or a transaction ends. Enable this if code other than
+	 * the logging backend reads the property from the MDC.
+	 * 
+	 * @param eager if the MDC should be updated when a transaction begins
+	 */
+	public static void setEagerTransactionMDC(boolean eager) {
+		ALoggerImpl.setEagerTransactionMDC(eager);
+	}
+
+	
+	/**
+	 * Set if the open transactions should be attached to logged messages as
+	 * part of their marker instead of being stored in the MDC. This saves
+	 * observers from parsing the MDC property, they can use
+	 * {@link ALoggerUtil#getTransactions(org.slf4j.Marker)} instead.
+	 * Messages not logged through an {@link ALogger} are not associated to
+	 * transactions in this mode.
+	 * 
+	 * @param enabled if transaction markers should be used
+	 */
+	public static void setTransactionMarkers(boolean enabled) {
+		ALoggerImpl.setTransactionMarkers(enabled);
+	}
+
+	
+	/**
+	 * Set if and when the caller location (class, method, line) is
+	 * determined for logged messages. If the layouts in use print the caller
+	 * location, {@link CallerDataMode#NONE_BELOW_INFO} or
+	 * {@link CallerDataMode#NONE} avoid its cost for bulk logging. The mode
+	 * only applies if Logback is the logging backend.
+	 * 
+	 * @param mode the caller data mode, <code>null</code> for the default
+	 *   {@link CallerDataMode#LAZY}
+	 */
+	public static void setCallerDataMode(CallerDataMode mode) {
+		ALoggerImpl.setCallerDataMode(mode);
+	}
+	
+	/**
+	 * Set if and when the caller location is determined for messages logged
+	 * by the logger with the given name and its descendants, overriding the
+	 * mode set with {@link #setCallerDataMode(CallerDataMode)}. This allows
+	 * e.g. to skip the caller location only for a chatty component.
+	 * 
+	 * @param loggerName the logger name
+	 * @param mode the caller data mode, <code>null</code> to remove the
+	 *   override
+	 */
+	public static void setCallerDataMode(String loggerName, CallerDataMode mode) {
+		ALoggerImpl.setCallerDataMode(loggerName, mode);
+	}
+
+	
+	/**
+	 * Set if the durations of transactions should be recorded per
+	 * transaction message. Disabled by default.
+	 * 
+	 * @param enabled if transaction statistics should be recorded
+	 * 
+	 * @see #getTransactionStatistics()
+	 */
+	public static void setTransactionStatistics(boolean enabled) {
+		ALoggerImpl.setTransactionStatistics(enabled);
+	}
+	
+	/**
+	 * Get the latency statistics of the transactions begun with the given
+	 * message
+	 * 
+	 * @param msg the transaction message
+	 * 
+	 * @return the transaction statistics or <code>null</code> if none were
+	 *   recorded
+	 */
+	public static TransactionStatistics getTransactionStatistics(String msg) {
+		return TransactionStatisticsRegistry.getStatistics(msg);
+	}
+	
+	/**
+	 * Get the latency statistics of the transactions for all recorded
+	 * transaction messages. Statistics are only recorded for a limited number
+	 * of different messages.
+	 * 
+	 * @return the transaction statistics
+	 */
+	public static Collection<TransactionStatistics> getTransactionStatistics() {
+		return TransactionStatisticsRegistry.getStatistics();
+	}
+	
+	/**
+	 * Discard all recorded transaction statistics
+	 */
+	public static void resetTransactionStatistics() {
+		TransactionStatisticsRegistry.clear();
+	}
 
 }
@@ -25,6 +25,9 @@ import java.util.Iterator;
 
 import org.slf4j.Marker;
 
+import de.fhg.igd.slf4jplus.internal.APlusMarker;
+import de.fhg.igd.slf4jplus.internal.TransactionPathMarker;
+
 /**
  * {@link ALogger} utility methods
  * 
@@ -44,6 +47,10 @@ public abstract class ALoggerUtil implements ALoggerConstants {
 			return false;
 		}
 		
+		if (marker instanceof APlusMarker) {
+			return ((APlusMarker) marker).isUserMessage();
+		}
+		
 		return marker.contains(USER_MARKER_NAME);
 	}
 	
@@ -59,6 +66,10 @@ public abstract class ALoggerUtil implements ALoggerConstants {
 			return false;
 		}
 		
+		if (marker instanceof APlusMarker) {
+			return ((APlusMarker) marker).getGroupName() != null;
+		}
+		
 		return marker.contains(GROUP_MARKER_NAME);
 	}
 	
@@ -75,6 +86,10 @@ public abstract class ALoggerUtil implements ALoggerConstants {
 			return null;
 		}
 		
+		if (marker instanceof APlusMarker) {
+			return ((APlusMarker) marker).getGroupName();
+		}
+		
 		if (marker.contains(GROUP_MARKER_NAME)) {
 			Marker groupMarker = findMarker(marker, GROUP_MARKER_NAME);
 			if (groupMarker != null && groupMarker.hasReferences()) {
@@ -105,6 +120,10 @@ public abstract class ALoggerUtil implements ALoggerConstants {
 			return false;
 		}
 		
+		if (marker instanceof APlusMarker) {
+			return ((APlusMarker) marker).beginsTransaction();
+		}
+		
 		return marker.contains(TRANSACTION_BEGIN_NAME);
 	}
 	
@@ -120,6 +139,10 @@ public abstract class ALoggerUtil implements ALoggerConstants {
 			return false;
 		}
 		
+		if (marker instanceof APlusMarker) {
+			return ((APlusMarker) marker).endsTransaction();
+		}
+		
 		return marker.contains(TRANSACTION_END_NAME);
 	}
 	
@@ -136,6 +159,10 @@ public abstract class ALoggerUtil implements ALoggerConstants {
 			return null;
 		}
 		
+		if (marker instanceof APlusMarker) {
+			return ((APlusMarker) marker).getBundleName();
+		}
+		
 		if (marker.contains(BUNDLE_MARKER_NAME)) {
 			Marker bundleMarker = findMarker(marker, BUNDLE_MARKER_NAME);
 			if (bundleMarker != null && bundleMarker.hasReferences()) {
@@ -154,6 +181,57 @@ public abstract class ALoggerUtil implements ALoggerConstants {
 		return null;
 	}
 
+	/**
+	 * Get the identifiers of the open transactions attached to the given
+	 * marker. Transactions are only attached to markers if
+	 * {@link ALoggerFactory#setTransactionMarkers(boolean)} is enabled,
+	 * otherwise they are stored in the {@link #MDC_TRANSACTIONS} MDC property.
+	 *  
+	 * @param marker the marker
+	 * 
+	 * @return the transaction identifiers, starting with the outermost
+	 *   transaction, or <code>null</code> if no such information could be found
+	 */
+	public static String[] getTransactions(Marker marker) {
+		if (marker == null) {
+			return null;
+		}
+		
+		Marker transactions;
+		if (marker instanceof APlusMarker) {
+			transactions = ((APlusMarker) marker).getTransactions();
+		}
+		else {
+			transactions = findMarker(marker, TRANSACTIONS_MARKER_NAME);
+		}
+		
+		if (transactions instanceof TransactionPathMarker) {
+			return ((TransactionPathMarker) transactions).getIdentifiers();
+		}
+		
+		return null;
+	}
+
+	/**
+	 * Get the duration of the transaction ended by a message with the given
+	 * marker
+	 * 
+	 * @param marker the marker
+	 * 
+	 * @return the transaction duration in nanoseconds or <code>-1</code> if
+	 *   no such information could be found
+	 */
+	public static long getTransactionDuration(Marker marker) {
+		if (marker instanceof APlusMarker) {
+			long duration = ((APlusMarker) marker).getDuration();
+			if (duration >= 0) {
+				return duration;
+			}
+		}
+		
+		return -1;
+	}
+
 	/**
 	 * Find the marker with the given name in the given marker or its references
 	 * 
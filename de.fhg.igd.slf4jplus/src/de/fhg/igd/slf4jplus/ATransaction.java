@@ -22,11 +22,12 @@
 package de.fhg.igd.slf4jplus;
 
 /**
- * Represents a log transaction
+ * Represents a log transaction. A transaction can be used in a
+ * try-with-resources statement to make sure it is ended.
  * 
  * @author Simon Templer
  */
-public interface ATransaction {
+public interface ATransaction extends AutoCloseable {
 	
 	/**
 	 * Get the transaction identifier
@@ -40,5 +41,37 @@ public interface ATransaction {
 	 * This method must always be called when the transaction is finished.
 	 */
 	public void end();
+	
+	/**
+	 * End the transaction if it was not yet ended. The default
+	 * implementation calls {@link #end()}.
+	 * 
+	 * @see #end()
+	 */
+	@Override
+	public default void close() {
+		end();
+	}
+	
+	/**
+	 * Get the time elapsed since the transaction began. After the
+	 * transaction was ended this is the transaction duration.
+	 * 
+	 * @return the elapsed time in nanoseconds, <code>-1</code> if the
+	 *   transaction doesn't measure its duration (the default)
+	 */
+	public default long getElapsedNanos() {
+		return -1;
+	}
+	
+	/**
+	 * Determines if the transaction was ended
+	 * 
+	 * @return if the transaction was ended, the default implementation
+	 *   doesn't track this and returns <code>false</code>
+	 */
+	public default boolean isEnded() {
+		return false;
+	}
 
 }
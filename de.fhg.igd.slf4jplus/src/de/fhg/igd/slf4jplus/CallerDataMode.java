@@ -0,0 +1,50 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus;
+
+/**
+ * Specifies if the caller location (class, method, line) is determined for
+ * logged messages. Determining the caller requires walking the stack and is
+ * one of the most expensive parts of a log call.
+ * 
+ * @author Simon Templer
+ */
+public enum CallerDataMode {
+	
+	/**
+	 * The caller is only determined when an appender or layout requests it
+	 * for a message.
+	 */
+	LAZY,
+	
+	/**
+	 * The caller is never determined for TRACE and DEBUG messages, for
+	 * other messages it is determined lazily.
+	 */
+	NONE_BELOW_INFO,
+	
+	/**
+	 * The caller is never determined.
+	 */
+	NONE
+
+}
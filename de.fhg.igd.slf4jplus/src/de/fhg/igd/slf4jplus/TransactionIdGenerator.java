@@ -0,0 +1,43 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus;
+
+/**
+ * Generates the identifiers of log transactions
+ * 
+ * @author Simon Templer
+ */
+public interface TransactionIdGenerator {
+	
+	/**
+	 * Generate a new transaction identifier. The identifier must be unique
+	 * and must not contain {@link ALoggerConstants#MDC_TRANSACTIONS_SEPARATOR}.
+	 * Implementations may return a {@link CharSequence} that creates its
+	 * string representation only when it is needed.
+	 * 
+	 * @param name the name of the logger beginning the transaction
+	 * 
+	 * @return the transaction identifier
+	 */
+	public CharSequence generate(String name);
+
+}
@@ -0,0 +1,245 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import de.fhg.igd.slf4jplus.internal.ALoggerImpl;
+import de.fhg.igd.slf4jplus.internal.ContextExecutor;
+import de.fhg.igd.slf4jplus.internal.ContextExecutorService;
+import de.fhg.igd.slf4jplus.internal.TransactionContext;
+import de.fhg.igd.slf4jplus.internal.TransactionStack;
+
+/**
+ * Propagates the open transactions of a thread to tasks executed in other
+ * threads, e.g. by an {@link ExecutorService}, a
+ * {@link java.util.concurrent.ForkJoinPool} or as {@link CompletableFuture}
+ * stage. Messages logged by the tasks are associated to the transactions
+ * that were open when the task was wrapped or submitted, capturing them
+ * doesn't copy anything. While a task is running, transactions begun and
+ * ended by it only affect the executing thread.
+ * 
+ * @author Simon Templer
+ */
+public abstract class TransactionPropagation {
+	
+	/**
+	 * Wrap an executor so the tasks it executes run with the transactions
+	 * that were open when they were submitted
+	 * 
+	 * @param executor the executor
+	 * 
+	 * @return the wrapped executor
+	 */
+	public static Executor wrap(Executor executor) {
+		if (executor instanceof ContextExecutor) {
+			return executor;
+		}
+		return new ContextExecutor(executor);
+	}
+	
+	/**
+	 * Wrap an executor service so the tasks it executes run with the
+	 * transactions that were open when they were submitted
+	 * 
+	 * @param executor the executor service
+	 * 
+	 * @return the wrapped executor service
+	 */
+	public static ExecutorService wrap(ExecutorService executor) {
+		if (executor instanceof ContextExecutorService) {
+			return executor;
+		}
+		return new ContextExecutorService(executor);
+	}
+	
+	/**
+	 * Wrap a task so it runs with the currently open transactions
+	 * 
+	 * @param task the task
+	 * 
+	 * @return the wrapped task
+	 */
+	public static Runnable wrap(final Runnable task) {
+		final TransactionContext context = capture();
+		return () -> {
+			TransactionContext previous = ALoggerImpl.attachContext(context);
+			try {
+				task.run();
+			} finally {
+				ALoggerImpl.attachContext(previous);
+			}
+		};
+	}
+	
+	/**
+	 * Wrap a task so it runs with the currently open transactions
+	 * 
+	 * @param task the task
+	 * 
+	 * @return the wrapped task
+	 */
+	public static <T> Callable<T> wrap(final Callable<T> task) {
+		final TransactionContext context = capture();
+		return () -> {
+			TransactionContext previous = ALoggerImpl.attachContext(context);
+			try {
+				return task.call();
+			} finally {
+				ALoggerImpl.attachContext(previous);
+			}
+		};
+	}
+	
+	/**
+	 * Wrap a supplier so it runs with the currently open transactions, e.g.
+	 * for {@link CompletableFuture#supplyAsync(Supplier)}
+	 * 
+	 * @param supplier the supplier
+	 * 
+	 * @return the wrapped supplier
+	 */
+	public static <T> Supplier<T> wrapSupplier(final Supplier<T> supplier) {
+		final TransactionContext context = capture();
+		return () -> {
+			TransactionContext previous = ALoggerImpl.attachContext(context);
+			try {
+				return supplier.get();
+			} finally {
+				ALoggerImpl.attachContext(previous);
+			}
+		};
+	}
+	
+	/**
+	 * Wrap a function so it runs with the currently open transactions, e.g.
+	 * for {@link CompletableFuture#thenApplyAsync(Function)}
+	 * 
+	 * @param function the function
+	 * 
+	 * @return the wrapped function
+	 */
+	public static <T, R> Function<T, R> wrapFunction(final Function<T, R> function) {
+		final TransactionContext context = capture();
+		return (value) -> {
+			TransactionContext previous = ALoggerImpl.attachContext(context);
+			try {
+				return function.apply(value);
+			} finally {
+				ALoggerImpl.attachContext(previous);
+			}
+		};
+	}
+	
+	/**
+	 * Wrap a consumer so it runs with the currently open transactions, e.g.
+	 * for {@link CompletableFuture#thenAcceptAsync(Consumer)}
+	 * 
+	 * @param consumer the consumer
+	 * 
+	 * @return the wrapped consumer
+	 */
+	public static <T> Consumer<T> wrapConsumer(final Consumer<T> consumer) {
+		final TransactionContext context = capture();
+		return (value) -> {
+			TransactionContext previous = ALoggerImpl.attachContext(context);
+			try {
+				consumer.accept(value);
+			} finally {
+				ALoggerImpl.attachContext(previous);
+			}
+		};
+	}
+	
+	/**
+	 * Run a task asynchronously in the common pool with the currently open
+	 * transactions
+	 * 
+	 * @param task the task
+	 * 
+	 * @return the completable future of the task
+	 * 
+	 * @see CompletableFuture#runAsync(Runnable)
+	 */
+	public static CompletableFuture<Void> runAsync(Runnable task) {
+		return CompletableFuture.runAsync(wrap(task));
+	}
+	
+	/**
+	 * Run a task asynchronously with the currently open transactions
+	 * 
+	 * @param task the task
+	 * @param executor the executor to use
+	 * 
+	 * @return the completable future of the task
+	 * 
+	 * @see CompletableFuture#runAsync(Runnable, Executor)
+	 */
+	public static CompletableFuture<Void> runAsync(Runnable task, Executor executor) {
+		return CompletableFuture.runAsync(wrap(task), executor);
+	}
+	
+	/**
+	 * Supply a value asynchronously in the common pool with the currently
+	 * open transactions
+	 * 
+	 * @param supplier the supplier
+	 * 
+	 * @return the completable future of the value
+	 * 
+	 * @see CompletableFuture#supplyAsync(Supplier)
+	 */
+	public static <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+		return CompletableFuture.supplyAsync(wrapSupplier(supplier));
+	}
+	
+	/**
+	 * Supply a value asynchronously with the currently open transactions
+	 * 
+	 * @param supplier the supplier
+	 * @param executor the executor to use
+	 * 
+	 * @return the completable future of the value
+	 * 
+	 * @see CompletableFuture#supplyAsync(Supplier, Executor)
+	 */
+	public static <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier,
+			Executor executor) {
+		return CompletableFuture.supplyAsync(wrapSupplier(supplier), executor);
+	}
+	
+	/**
+	 * Get the open transactions of the current thread
+	 * 
+	 * @return the transaction context, may be <code>null</code>
+	 */
+	private static TransactionContext capture() {
+		return TransactionStack.current();
+	}
+
+}
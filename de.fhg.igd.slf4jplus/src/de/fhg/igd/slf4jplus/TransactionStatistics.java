@@ -0,0 +1,79 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus;
+
+/**
+ * Latency statistics of the transactions begun with the same message.
+ * The values are approximated, with a relative error of at most 12.5%.
+ * 
+ * @author Simon Templer
+ * @see ALoggerFactory#setTransactionStatistics(boolean)
+ */
+public interface TransactionStatistics {
+	
+	/**
+	 * Get the message the transactions were begun with
+	 * 
+	 * @return the transaction message
+	 */
+	public String getName();
+	
+	/**
+	 * Get the number of ended transactions
+	 * 
+	 * @return the transaction count
+	 */
+	public long getCount();
+	
+	/**
+	 * Get the maximum transaction duration
+	 * 
+	 * @return the maximum duration in nanoseconds, zero if no transaction
+	 *   ended yet
+	 */
+	public long getMaxNanos();
+	
+	/**
+	 * Get the duration the given percentage of transactions didn't exceed
+	 * 
+	 * @param percentile the percentile, between 0 and 100
+	 * 
+	 * @return the duration in nanoseconds, zero if no transaction ended yet
+	 */
+	public long getPercentileNanos(double percentile);
+	
+	/**
+	 * @return the median transaction duration in nanoseconds
+	 */
+	public long getP50Nanos();
+	
+	/**
+	 * @return the 90th percentile of the transaction durations in nanoseconds
+	 */
+	public long getP90Nanos();
+	
+	/**
+	 * @return the 99th percentile of the transaction durations in nanoseconds
+	 */
+	public long getP99Nanos();
+
+}
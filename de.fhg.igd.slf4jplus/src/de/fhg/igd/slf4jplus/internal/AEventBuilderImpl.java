@@ -0,0 +1,250 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.internal;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import org.slf4j.Marker;
+
+import de.fhg.igd.slf4jplus.AEventBuilder;
+import de.fhg.igd.slf4jplus.AGroup;
+
+/**
+ * Log message builder. One builder per thread is reused for all messages
+ * logged with enabled levels. If it is still in use when a new message is
+ * started, because a message is built while building another one or a
+ * message was never logged, the thread gets a new builder.
+ * 
+ * @author Simon Templer
+ */
+public class AEventBuilderImpl implements AEventBuilder {
+	
+	/**
+	 * Builder that ignores all calls, used for disabled levels
+	 */
+	public static final AEventBuilder NOP = new AEventBuilder() {
+		
+		@Override
+		public AEventBuilder user() {
+			return this;
+		}
+		
+		@Override
+		public AEventBuilder group(AGroup group) {
+			return this;
+		}
+		
+		@Override
+		public AEventBuilder cause(Throwable t) {
+			return this;
+		}
+		
+		@Override
+		public AEventBuilder arg(Object arg) {
+			return this;
+		}
+		
+		@Override
+		public void log(String format) {
+			// do nothing
+		}
+		
+		@Override
+		public void log(Supplier<String> msg) {
+			// do nothing
+		}
+		
+	};
+	
+	/**
+	 * Fully qualified class name used to determine the caller location
+	 */
+	private static final String FQCN = AEventBuilderImpl.class.getName();
+	
+	private static final ThreadLocal<AEventBuilderImpl> builders = ThreadLocal.withInitial(AEventBuilderImpl::new);
+	
+	/**
+	 * Get a builder for a message. The builder of the current thread is
+	 * reused if it is not in use.
+	 * 
+	 * @param logger the logger
+	 * @param level the log level
+	 * @param levelEnabled if the level is enabled for messages without user
+	 *   and group markers
+	 * 
+	 * @return the message builder
+	 */
+	public static AEventBuilderImpl acquire(ALoggerImpl logger, int level,
+			boolean levelEnabled) {
+		AEventBuilderImpl builder = builders.get();
+		if (builder.inUse) {
+			/*
+			 * A message is built while building another message, or the
+			 * builder was abandoned before logging. Replace the thread's
+			 * builder, so an abandoned builder and its arguments are not
+			 * kept.
+			 */
+			builder = new AEventBuilderImpl();
+			builders.set(builder);
+		}
+		else {
+			builder.reset();
+		}
+		
+		builder.inUse = true;
+		builder.logger = logger;
+		builder.level = level;
+		builder.levelEnabled = levelEnabled;
+		return builder;
+	}
+	
+	private boolean inUse;
+	
+	private boolean levelEnabled;
+	
+	private ALoggerImpl logger;
+	
+	private int level;
+	
+	private boolean userMessage;
+	
+	private AGroup group;
+	
+	private Throwable throwable;
+	
+	private Object[] args = new Object[4];
+	
+	private int argCount;
+
+	/**
+	 * @see AEventBuilder#user()
+	 */
+	@Override
+	public AEventBuilder user() {
+		userMessage = true;
+		return this;
+	}
+
+	/**
+	 * @see AEventBuilder#group(AGroup)
+	 */
+	@Override
+	public AEventBuilder group(AGroup group) {
+		this.group = group;
+		return this;
+	}
+
+	/**
+	 * @see AEventBuilder#cause(Throwable)
+	 */
+	@Override
+	public AEventBuilder cause(Throwable t) {
+		this.throwable = t;
+		return this;
+	}
+
+	/**
+	 * @see AEventBuilder#arg(Object)
+	 */
+	@Override
+	public AEventBuilder arg(Object arg) {
+		if (argCount == args.length) {
+			args = Arrays.copyOf(args, argCount * 2);
+		}
+		args[argCount++] = arg;
+		return this;
+	}
+
+	/**
+	 * @see AEventBuilder#log(String)
+	 */
+	@Override
+	public void log(String format) {
+		log(format, null);
+	}
+
+	/**
+	 * @see AEventBuilder#log(Supplier)
+	 */
+	@Override
+	public void log(Supplier<String> msg) {
+		log(null, msg);
+	}
+	
+	/**
+	 * Log the message if the level is enabled for its markers
+	 * 
+	 * @param format the message format, ignored if a supplier is given
+	 * @param supplier the message supplier, may be <code>null</code>
+	 */
+	private void log(String format, Supplier<String> supplier) {
+		if (!inUse) {
+			// already logged
+			return;
+		}
+		
+		// the level was checked without user and group markers
+		ALoggerImpl logger = this.logger;
+		int level = this.level;
+		Marker marker = logger.createMarker(userMessage, group, null, null);
+		boolean enabled = (levelEnabled && !userMessage && group == null)
+				|| logger.isEnabled(level, marker);
+		if (!enabled) {
+			release();
+			return;
+		}
+		
+		// copy the state, the builder may be reused while logging
+		Throwable t = throwable;
+		Object[] messageArgs = (argCount == 0) ? null : Arrays.copyOf(args, argCount);
+		release();
+		
+		if (supplier != null) {
+			format = supplier.get();
+		}
+		logger.log(marker, FQCN, level, format, messageArgs, t);
+	}
+	
+	/**
+	 * Reset the builder state so it may be reused
+	 */
+	private void release() {
+		reset();
+		inUse = false;
+	}
+	
+	/**
+	 * Clear the message state
+	 */
+	private void reset() {
+		logger = null;
+		userMessage = false;
+		group = null;
+		throwable = null;
+		for (int i = 0; i < argCount; i++) {
+			args[i] = null;
+		}
+		argCount = 0;
+	}
+
+}
@@ -21,7 +21,13 @@
 
 package de.fhg.igd.slf4jplus.internal;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Marker;
+
 import de.fhg.igd.slf4jplus.AGroup;
+import de.fhg.igd.slf4jplus.ALoggerConstants;
 
 /**
  * Represents a group of log messages
@@ -31,6 +37,15 @@ import de.fhg.igd.slf4jplus.AGroup;
 public class AGroupImpl implements AGroup {
 	
 	private final String Name;
+	
+	private final Marker marker;
+	
+	/**
+	 * Markers combining the group marker with the markers of loggers,
+	 * mapped by bundle name
+	 */
+	private final ConcurrentMap<String, Marker[]> combinedMarkers =
+			new ConcurrentHashMap<String, Marker[]>(4);
 
 	/**
 	 * Create a log message group
@@ -40,6 +55,58 @@ public class AGroupImpl implements AGroup {
 	public AGroupImpl(String name) {
 		super();
 		this.Name = name;
+		this.marker = createGroupMarker(name);
+	}
+	
+	/**
+	 * Create a group marker referencing a marker with the given group name
+	 * 
+	 * @param name the group name
+	 * 
+	 * @return the group marker
+	 */
+	public static Marker createGroupMarker(String name) {
+		/*
+		 * Group start marker referencing a detached group name marker. The
+		 * group name marker is not registered with the MarkerFactory, as
+		 * group names may be arbitrary.
+		 */
+		return new ImmutableMarker(ALoggerConstants.GROUP_MARKER_NAME,
+				new ImmutableMarker(name));
+	}
+
+	/**
+	 * Get the group marker. It is created once with the group and is
+	 * immutable.
+	 * 
+	 * @return the group marker
+	 */
+	public Marker getMarker() {
+		return marker;
+	}
+
+	/**
+	 * Get the cache for markers combining the group marker with the markers
+	 * of loggers for the given bundle. The markers in the array may be
+	 * <code>null</code> if they were not yet created.
+	 * 
+	 * @param bundleName the bundle name of the logger, may be
+	 *   <code>null</code>
+	 * @param size the number of marker combinations of the logger
+	 * 
+	 * @return the combined markers
+	 */
+	Marker[] getCombinedMarkers(String bundleName, int size) {
+		String key = (bundleName == null) ? ("") : (bundleName);
+		Marker[] markers = combinedMarkers.get(key);
+		if (markers == null) {
+			markers = new Marker[size];
+			Marker[] existing = combinedMarkers.putIfAbsent(key, markers);
+			if (existing != null) {
+				markers = existing;
+			}
+		}
+		return markers;
 	}
 
 	/**
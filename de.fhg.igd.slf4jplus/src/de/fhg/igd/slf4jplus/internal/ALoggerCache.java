@@ -0,0 +1,254 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.internal;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import de.fhg.igd.slf4jplus.ALogger;
+
+/**
+ * Cache for {@link ALoggerImpl} instances. Loggers are only weakly
+ * referenced, so loggers that are no longer in use may be garbage collected.
+ * 
+ * @author Simon Templer
+ */
+public class ALoggerCache {
+	
+	/**
+	 * Logger cache key
+	 */
+	private static final class LoggerKey {
+		
+		private final String name;
+		
+		private final String bundleName;
+		
+		private final String fqcn;
+
+		/**
+		 * Create a logger cache key
+		 * 
+		 * @param name the logger name
+		 * @param bundleName the bundle name, may be <code>null</code>
+		 * @param fqcn the fully qualified class name of the masking logger
+		 */
+		public LoggerKey(String name, String bundleName, String fqcn) {
+			super();
+			this.name = name;
+			this.bundleName = bundleName;
+			this.fqcn = fqcn;
+		}
+
+		/**
+		 * @see Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			final int prime = 31;
+			int result = 1;
+			result = prime * result
+					+ ((bundleName == null) ? 0 : bundleName.hashCode());
+			result = prime * result + ((fqcn == null) ? 0 : fqcn.hashCode());
+			result = prime * result + ((name == null) ? 0 : name.hashCode());
+			return result;
+		}
+
+		/**
+		 * @see Object#equals(Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (obj == null)
+				return false;
+			if (getClass() != obj.getClass())
+				return false;
+			LoggerKey other = (LoggerKey) obj;
+			if (bundleName == null) {
+				if (other.bundleName != null)
+					return false;
+			} else if (!bundleName.equals(other.bundleName))
+				return false;
+			if (fqcn == null) {
+				if (other.fqcn != null)
+					return false;
+			} else if (!fqcn.equals(other.fqcn))
+				return false;
+			if (name == null) {
+				if (other.name != null)
+					return false;
+			} else if (!name.equals(other.name))
+				return false;
+			return true;
+		}
+		
+	}
+	
+	/**
+	 * Weak reference to a cached logger
+	 */
+	private static final class LoggerReference extends WeakReference<ALogger> {
+		
+		private final LoggerKey key;
+
+		/**
+		 * Create a weak reference to a logger
+		 * 
+		 * @param key the logger cache key
+		 * @param logger the logger
+		 * @param queue the reference queue
+		 */
+		public LoggerReference(LoggerKey key, ALogger logger,
+				ReferenceQueue<ALogger> queue) {
+			super(logger, queue);
+			this.key = key;
+		}
+		
+	}
+	
+	/**
+	 * Support for binding loggers directly to Logback, only accessed if
+	 * Logback is available
+	 */
+	private static final class LogbackSupport {
+		
+		/**
+		 * Create an enhanced logger bound to the given Logback logger
+		 * 
+		 * @param logger the Logback logger
+		 * @param bundleName the bundle name, may be <code>null</code>
+		 * @param fqcn the fully qualified class name of the masking logger
+		 * 
+		 * @return the enhanced logger
+		 */
+		public static ALogger createLogger(Logger logger, String bundleName,
+				String fqcn) {
+			return new LogbackALoggerImpl((ch.qos.logback.classic.Logger) logger,
+					bundleName, fqcn);
+		}
+		
+	}
+	
+	/**
+	 * The Logback logger class or <code>null</code> if Logback is not
+	 * available
+	 */
+	private static final Class<?> LOGBACK_LOGGER;
+	
+	static {
+		Class<?> logbackLogger;
+		try {
+			logbackLogger = Class.forName("ch.qos.logback.classic.Logger");
+		} catch (Throwable e) {
+			// Logback not available
+			logbackLogger = null;
+		}
+		LOGBACK_LOGGER = logbackLogger;
+	}
+	
+	private final ConcurrentMap<LoggerKey, LoggerReference> loggers = new ConcurrentHashMap<LoggerKey, LoggerReference>();
+	
+	private final ReferenceQueue<ALogger> queue = new ReferenceQueue<ALogger>();
+	
+	/**
+	 * Get the logger with the given name, bundle name and masking class name.
+	 * The logger is created if it doesn't exist yet.
+	 * 
+	 * @param name the logger name
+	 * @param bundleName the symbolic name of the OSGi bundle originating the
+	 *   messages, may be <code>null</code> if unknown
+	 * @param fqcn the fully qualified class name of the masking logger
+	 * 
+	 * @return the logger
+	 */
+	public ALogger getLogger(String name, String bundleName, String fqcn) {
+		expungeStaleEntries();
+		
+		LoggerKey key = new LoggerKey(name, bundleName, fqcn);
+		LoggerReference ref = loggers.get(key);
+		if (ref != null) {
+			ALogger logger = ref.get();
+			if (logger != null) {
+				return logger;
+			}
+		}
+		
+		ALogger logger = createLogger(LoggerFactory.getLogger(name),
+				bundleName, fqcn);
+		LoggerReference newRef = new LoggerReference(key, logger, queue);
+		while (true) {
+			LoggerReference existing = loggers.putIfAbsent(key, newRef);
+			if (existing == null) {
+				return logger;
+			}
+			
+			ALogger other = existing.get();
+			if (other != null) {
+				// another thread was faster
+				return other;
+			}
+			
+			if (loggers.replace(key, existing, newRef)) {
+				return logger;
+			}
+		}
+	}
+
+	/**
+	 * Create an enhanced logger. If the internal logger is a Logback logger,
+	 * the enhanced logger is bound directly to Logback.
+	 * 
+	 * @param logger the internal logger
+	 * @param bundleName the bundle name, may be <code>null</code>
+	 * @param fqcn the fully qualified class name of the masking logger
+	 * 
+	 * @return the enhanced logger
+	 */
+	private static ALogger createLogger(Logger logger, String bundleName,
+			String fqcn) {
+		if (LOGBACK_LOGGER != null && LOGBACK_LOGGER.isInstance(logger)) {
+			return LogbackSupport.createLogger(logger, bundleName, fqcn);
+		}
+		
+		return new ALoggerImpl(logger, bundleName, fqcn);
+	}
+
+	/**
+	 * Remove the entries of garbage collected loggers
+	 */
+	private void expungeStaleEntries() {
+		Reference<? extends ALogger> ref;
+		while ((ref = queue.poll()) != null) {
+			LoggerReference loggerRef = (LoggerReference) ref;
+			loggers.remove(loggerRef.key, loggerRef);
+		}
+	}
+
+}
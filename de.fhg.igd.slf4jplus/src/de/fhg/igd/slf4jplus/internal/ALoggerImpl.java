@@ -21,21 +21,23 @@
 
 package de.fhg.igd.slf4jplus.internal;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
-import org.slf4j.MDC;
 import org.slf4j.Marker;
 import org.slf4j.MarkerFactory;
 import org.slf4j.ext.LoggerWrapper;
-import org.slf4j.helpers.MessageFormatter;
 import org.slf4j.spi.LocationAwareLogger;
 
+import de.fhg.igd.slf4jplus.AEventBuilder;
 import de.fhg.igd.slf4jplus.AGroup;
 import de.fhg.igd.slf4jplus.ALogger;
 import de.fhg.igd.slf4jplus.ATransaction;
+import de.fhg.igd.slf4jplus.CallerDataMode;
+import de.fhg.igd.slf4jplus.TransactionIdGenerator;
 
 
 /**
@@ -45,14 +47,60 @@ import de.fhg.igd.slf4jplus.ATransaction;
  */
 public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAwareLogger {
 	
+	private static volatile TransactionIdGenerator transactionIdGenerator = new DefaultTransactionIdGenerator();
+	
+	private static volatile boolean eagerTransactionMDC = false;
+	
+	private static volatile boolean transactionMarkers = false;
+	
+	private static final CallerDataMode[] CALLER_DATA_MODES = CallerDataMode.values();
+	
+	private static volatile CallerDataMode callerDataMode = CallerDataMode.LAZY;
+	
+	/**
+	 * Caller data modes overriding the default mode for loggers and their
+	 * descendants, mapped by logger name, the root logger name applies to
+	 * all loggers
+	 */
+	private static final ConcurrentMap<String, CallerDataMode> callerDataModes = new ConcurrentHashMap<String, CallerDataMode>();
+	
+	/**
+	 * Incremented each time a caller data mode is changed
+	 */
+	private static volatile int callerDataVersion = 0;
+	
+	private static volatile boolean transactionStatistics = false;
+	
 	private final String fqcn;
 	
 	private final boolean locationAware;
 	
 	private final Logger logger;
 	
+	private final String bundleName;
+	
 	private final Marker bundleMarker;
 	
+	/**
+	 * The caller data mode of the logger, determined for the
+	 * {@link #callerDataVersion} it is combined with, see
+	 * {@link #getCallerDataMode()}
+	 */
+	private int resolvedCallerDataMode = -1;
+	
+	/**
+	 * Precomputed markers for all combinations of user message, transaction
+	 * begin and transaction end, see {@link #markerIndex(boolean, boolean, boolean)}
+	 */
+	private final Marker[] markers;
+	
+	/**
+	 * Marker without references, used to attach open transactions to
+	 * messages that have no other markers
+	 */
+	private static final APlusMarker emptyMarker = new APlusMarker(null, null,
+			false, null, null, false, false);
+	
 	/**
 	 * Create an enhanced logger
 	 * 
@@ -86,10 +134,144 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 			bundleMarker = MarkerFactory.getDetachedMarker(BUNDLE_MARKER_NAME);
 			// add reference to bundle name marker
 			bundleMarker.add(MarkerFactory.getMarker(BUNDLE_NAME_PREFIX + bundleName));
+			this.bundleName = bundleName;
 		}
 		else {
 			bundleMarker = null;
+			this.bundleName = null;
+		}
+		
+		// precompute markers that don't reference a group
+		markers = new Marker[8];
+		for (int i = 0; i < markers.length; i++) {
+			markers[i] = combineMarkers((i & 1) != 0, null, null,
+					(i & 2) != 0, (i & 4) != 0);
+		}
+	}
+	
+	/**
+	 * Set the generator for transaction identifiers
+	 * 
+	 * @param generator the transaction identifier generator, <code>null</code>
+	 *   to use the default generator
+	 */
+	public static void setTransactionIdGenerator(TransactionIdGenerator generator) {
+		if (generator == null) {
+			generator = new DefaultTransactionIdGenerator();
+		}
+		transactionIdGenerator = generator;
+	}
+	
+	/**
+	 * Set if the MDC transactions property should be updated as soon as a
+	 * transaction begins. By default it is only updated when a message is
+	 * logged or a transaction ends. Enable this if code other than the
+	 * logging backend reads the property from the MDC.
+	 * 
+	 * @param eager if the MDC should be updated when a transaction begins
+	 */
+	public static void setEagerTransactionMDC(boolean eager) {
+		eagerTransactionMDC = eager;
+	}
+	
+	/**
+	 * Set if the open transactions should be attached to logged messages
+	 * as part of their marker instead of being stored in the MDC.
+	 * 
+	 * @param enabled if transaction markers should be used
+	 */
+	public static void setTransactionMarkers(boolean enabled) {
+		transactionMarkers = enabled;
+	}
+	
+	/**
+	 * Set if and when the caller location is determined for logged messages.
+	 * The mode is only respected by loggers bound directly to Logback.
+	 * 
+	 * @param mode the caller data mode, <code>null</code> for the default
+	 *   {@link CallerDataMode#LAZY}
+	 */
+	public static synchronized void setCallerDataMode(CallerDataMode mode) {
+		if (mode == null) {
+			mode = CallerDataMode.LAZY;
+		}
+		callerDataMode = mode;
+		callerDataVersion++;
+	}
+	
+	/**
+	 * Set if and when the caller location is determined for messages logged
+	 * by the logger with the given name and its descendants, overriding the
+	 * default mode. The mode is only respected by loggers bound directly to
+	 * Logback.
+	 * 
+	 * @param loggerName the logger name
+	 * @param mode the caller data mode, <code>null</code> to remove the
+	 *   override
+	 */
+	public static synchronized void setCallerDataMode(String loggerName,
+			CallerDataMode mode) {
+		if (mode == null) {
+			callerDataModes.remove(loggerName);
+		}
+		else {
+			callerDataModes.put(loggerName, mode);
+		}
+		callerDataVersion++;
+	}
+	
+	/**
+	 * Set if the durations of transactions should be recorded in the
+	 * {@link TransactionStatisticsRegistry}
+	 * 
+	 * @param enabled if transaction statistics should be recorded
+	 */
+	public static void setTransactionStatistics(boolean enabled) {
+		transactionStatistics = enabled;
+	}
+	
+	/**
+	 * Get the caller data mode of the logger. It is determined again only
+	 * after a mode was changed.
+	 * 
+	 * @return the caller data mode
+	 */
+	protected CallerDataMode getCallerDataMode() {
+		// version and mode are combined, so they are read and written at once
+		int resolved = resolvedCallerDataMode;
+		int version = callerDataVersion;
+		if (resolved < 0 || resolved >>> 2 != (version & 0x1fffffff)) {
+			resolved = ((version & 0x1fffffff) << 2) | resolveCallerDataMode().ordinal();
+			resolvedCallerDataMode = resolved;
+		}
+		return CALLER_DATA_MODES[resolved & 3];
+	}
+	
+	/**
+	 * Determine the caller data mode of the logger from the overrides of
+	 * the logger and its ancestors or the default mode
+	 * 
+	 * @return the caller data mode
+	 */
+	private CallerDataMode resolveCallerDataMode() {
+		if (!callerDataModes.isEmpty()) {
+			String name = getName();
+			while (name != null) {
+				CallerDataMode mode = callerDataModes.get(name);
+				if (mode != null) {
+					return mode;
+				}
+				
+				int index = Math.max(name.lastIndexOf('.'), name.lastIndexOf('$'));
+				name = (index > 0) ? (name.substring(0, index)) : (null);
+			}
+			
+			CallerDataMode mode = callerDataModes.get(Logger.ROOT_LOGGER_NAME);
+			if (mode != null) {
+				return mode;
+			}
 		}
+		return callerDataMode;
 	}
 	
 	/**
@@ -112,74 +294,175 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	public Marker createMarker(boolean userMessage,	AGroup parentGroup, 
 			ATransaction beginTransaction, ATransaction endTransaction) {
-		if (bundleMarker == null && !userMessage
-				&& parentGroup == null && beginTransaction == null
-				&& endTransaction == null) {
-			// quick exit if there are no markers to be created
-			return null;
+		if (parentGroup == null) {
+			// use precomputed marker
+			return markers[markerIndex(userMessage, beginTransaction != null,
+					endTransaction != null)];
 		}
 		
-		List<Marker> markers = new ArrayList<Marker>();
-		
-		if (bundleMarker != null) {
-			markers.add(bundleMarker);
+		if (parentGroup instanceof AGroupImpl) {
+			// use the marker cached with the group
+			AGroupImpl group = (AGroupImpl) parentGroup;
+			Marker[] cached = group.getCombinedMarkers(bundleName, markers.length);
+			int index = markerIndex(userMessage, beginTransaction != null,
+					endTransaction != null);
+			Marker marker = cached[index];
+			if (marker == null) {
+				// markers are immutable, concurrent creation does no harm
+				marker = combineMarkers(userMessage, group.getName(),
+						group.getMarker(), beginTransaction != null,
+						endTransaction != null);
+				cached[index] = marker;
+			}
+			return marker;
 		}
 		
+		return combineMarkers(userMessage, parentGroup.getName(),
+				AGroupImpl.createGroupMarker(parentGroup.getName()),
+				beginTransaction != null, endTransaction != null);
+	}
+	
+	/**
+	 * Get the index of the precomputed marker for the given flags
+	 * 
+	 * @param userMessage if the message is a user message
+	 * @param beginTransaction if the message begins a transaction
+	 * @param endTransaction if the message ends a transaction
+	 * 
+	 * @return the marker index
+	 */
+	private static int markerIndex(boolean userMessage,
+			boolean beginTransaction, boolean endTransaction) {
+		int index = 0;
 		if (userMessage) {
-			markers.add(USER_MESSAGE);
+			index |= 1;
 		}
-		
-		if (parentGroup != null) {
-			// create group start marker
-			Marker groupMarker = MarkerFactory.getDetachedMarker(GROUP_MARKER_NAME);
-			// add reference to group name marker
-			groupMarker.add(MarkerFactory.getMarker(parentGroup.getName()));
-			
-			markers.add(groupMarker);
+		if (beginTransaction) {
+			index |= 2;
 		}
-		
-		if (beginTransaction != null) {
-			markers.add(TRANSACTION_BEGIN);
+		if (endTransaction) {
+			index |= 4;
 		}
-		
-		if (endTransaction != null) {
-			markers.add(TRANSACTION_END);
+		return index;
+	}
+	
+	/**
+	 * Combine the bundle marker and the markers specified by the given
+	 * parameters
+	 * 
+	 * @param userMessage if the message is a user message
+	 * @param groupName the group name, may be <code>null</code>
+	 * @param groupMarker the group marker, may be <code>null</code>
+	 * @param beginTransaction if the message begins a transaction
+	 * @param endTransaction if the message ends a transaction
+	 * 
+	 * @return the marker, which may be <code>null</code>
+	 */
+	private Marker combineMarkers(boolean userMessage, String groupName,
+			Marker groupMarker, boolean beginTransaction, boolean endTransaction) {
+		if (bundleMarker == null && !userMessage && groupMarker == null
+				&& !beginTransaction && !endTransaction) {
+			// no markers
+			return null;
 		}
 		
-		// return markers
-		switch (markers.size()) {
-		case 0:
-			return null;
-		case 1:
-			return markers.get(0);
+		return new APlusMarker(bundleName, bundleMarker, userMessage,
+				groupName, groupMarker, beginTransaction, endTransaction);
+	}
+	
+	/**
+	 * Determines if the internal logger is enabled for the given level and
+	 * marker. This check should be done before any message is formatted.
+	 *
+	 * @param level the log level, one of the {@link LocationAwareLogger}
+	 *   level constants
+	 * @param marker the message marker, may be <code>null</code>
+	 *
+	 * @return if a message with the given level and marker would be logged
+	 */
+	protected boolean isEnabled(int level, Marker marker) {
+		switch (level) {
+		case TRACE_INT:
+			return (marker == null) ? logger.isTraceEnabled() : logger.isTraceEnabled(marker);
+		case DEBUG_INT:
+			return (marker == null) ? logger.isDebugEnabled() : logger.isDebugEnabled(marker);
+		case INFO_INT:
+			return (marker == null) ? logger.isInfoEnabled() : logger.isInfoEnabled(marker);
+		case WARN_INT:
+			return (marker == null) ? logger.isWarnEnabled() : logger.isWarnEnabled(marker);
+		case ERROR_INT:
+			return (marker == null) ? logger.isErrorEnabled() : logger.isErrorEnabled(marker);
 		default:
-			Marker wrapper = MarkerFactory.getDetachedMarker(WRAPPER_MARKER_NAME);
-			for (Marker marker : markers) {
-				wrapper.add(marker);
-			}
-			return wrapper;
+			return false;
 		}
 	}
-	
+
+	/**
+	 * Determines if the result of {@link #isEnabled(int, Marker)} may
+	 * depend on the marker, e.g. because a filter enables user messages. If
+	 * that isn't known, as for loggers of other backends, it is assumed.
+	 * 
+	 * @return if the marker may influence if a message is logged
+	 */
+	protected boolean isMarkerSensitive() {
+		return true;
+	}
+
+	/**
+	 * Determines if the internal logger is enabled for the given level for
+	 * a grouped message. It is checked with the precomputed marker for
+	 * messages without a group first, so the marker including the group is
+	 * only combined if the message is logged or if the check depends on the
+	 * marker, see {@link #isMarkerSensitive()}.
+	 * 
+	 * @param level the log level, one of the {@link LocationAwareLogger}
+	 *   level constants
+	 * @param userMessage if the message is a user message
+	 * @param group the message group, may be <code>null</code>
+	 * 
+	 * @return if a message with the given level would be logged
+	 */
+	protected boolean isEnabled(int level, boolean userMessage, AGroup group) {
+		if (isEnabled(level, markers[markerIndex(userMessage, false, false)])) {
+			return true;
+		}
+		// e.g. a turbo filter may accept the group marker
+		return group != null && isMarkerSensitive()
+				&& isEnabled(level, createMarker(userMessage, group, null, null));
+	}
+
+	/**
+	 * Replace the open transactions of the current thread, e.g. with those
+	 * captured in another thread
+	 * 
+	 * @param context the transaction context, may be <code>null</code>
+	 * 
+	 * @return the previous transaction context of the current thread
+	 */
+	public static TransactionContext attachContext(TransactionContext context) {
+		TransactionContext previous = TransactionStack.current();
+		if (previous != context) {
+			TransactionStack.setCurrent(context);
+			updateTransactionMDC(context);
+		}
+		return previous;
+	}
+
 	/**
 	 * Create a new transaction with a unique identifier
 	 * 
+	 * @param msg the transaction message
+	 * 
 	 * @return the new transaction
 	 */
-	protected ATransaction createTransaction() {
-		ATransaction trans = new ATransactionImpl(this, getName() + "_"
-				+ UUID.randomUUID().toString());
+	protected ATransaction createTransaction(String msg) {
+		ATransaction trans = newTransaction(msg);
 		
-		// add transaction to MDC
-		String transactions = MDC.get(MDC_TRANSACTIONS);
-		if (transactions == null || transactions.isEmpty()) {
-			transactions = trans.getIdentifier();
-		}
-		else {
-			transactions = transactions + MDC_TRANSACTIONS_SEPARATOR 
-				+ trans.getIdentifier();
+		// add transaction to the transaction stack
+		TransactionContext context = TransactionStack.push(trans);
+		if (eagerTransactionMDC) {
+			TransactionStack.updateMDC(context);
 		}
-		MDC.put(MDC_TRANSACTIONS, transactions);
 		
 		return trans;
 	}
@@ -189,12 +472,101 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public ATransaction begin(String msg) {
-		ATransaction trans = createTransaction();
-		
-		log(createMarker(false, null, trans, null), fqcn, ERROR_INT, msg, null, null);
-		
+		ATransaction trans = createTransaction(msg);
+		logBegin(trans, msg);
 		return trans;
 	}
+
+	/**
+	 * @see ALogger#run(String, Runnable)
+	 */
+	@Override
+	public void run(final String msg, final Runnable task) {
+		final ATransaction trans = newTransaction(msg);
+		TransactionContext context = new TransactionContext(trans,
+				TransactionStack.current());
+		try {
+			TransactionStack.runWith(context, () -> {
+				updateTransactionMDC(TransactionStack.current());
+				logBegin(trans, msg);
+				try {
+					task.run();
+				} finally {
+					trans.end();
+				}
+			});
+		} finally {
+			updateTransactionMDC(TransactionStack.current());
+		}
+	}
+
+	/**
+	 * @see ALogger#call(String, Callable)
+	 */
+	@Override
+	public <T> T call(String msg, final Callable<T> task) throws Exception {
+		final Object[] result = new Object[1];
+		final Exception[] failure = new Exception[1];
+		run(msg, () -> {
+			try {
+				result[0] = task.call();
+			} catch (RuntimeException e) {
+				throw e;
+			} catch (Exception e) {
+				failure[0] = e;
+			}
+		});
+		if (failure[0] != null) {
+			throw failure[0];
+		}
+		
+		@SuppressWarnings("unchecked")
+		T value = (T) result[0];
+		return value;
+	}
+	
+	/**
+	 * Create a new transaction with a unique identifier without adding it
+	 * to the transaction stack
+	 * 
+	 * @param msg the transaction message
+	 * 
+	 * @return the new transaction
+	 */
+	private ATransaction newTransaction(String msg) {
+		LatencyHistogram histogram = (transactionStatistics)
+				? TransactionStatisticsRegistry.getHistogram(msg) : null;
+		return new ATransactionImpl(this,
+				transactionIdGenerator.generate(getName()), histogram);
+	}
+	
+	/**
+	 * Log the begin of a transaction
+	 * 
+	 * @param trans the transaction
+	 * @param msg the transaction message
+	 */
+	private void logBegin(ATransaction trans, String msg) {
+		Marker marker = createMarker(false, null, trans, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			log(marker, fqcn, ERROR_INT, msg, null, null);
+		}
+	}
+	
+	/**
+	 * Update the MDC after the open transactions changed
+	 * 
+	 * @param context the context of the topmost transaction, may be
+	 *   <code>null</code>
+	 */
+	private static void updateTransactionMDC(TransactionContext context) {
+		if (eagerTransactionMDC) {
+			TransactionStack.updateMDC(context);
+		}
+		else {
+			TransactionStack.refreshMDC(context);
+		}
+	}
 	
 	/**
 	 * End a transaction
@@ -202,29 +574,24 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 * @param trans the transaction to end
 	 */
 	public void end(ATransaction trans) {
-		log(createMarker(false, null, null, trans), fqcn, ERROR_INT, null, null, null);
+		Marker marker = createMarker(false, null, null, trans);
+		if (isEnabled(ERROR_INT, marker)) {
+			if (marker instanceof APlusMarker) {
+				// attach the transaction duration
+				marker = ((APlusMarker) marker).withDuration(trans.getElapsedNanos());
+			}
+			log(marker, fqcn, ERROR_INT, null, null, null);
+		}
 		
 		// remove transaction
-		String transactions = MDC.get(MDC_TRANSACTIONS);
-		if (transactions != null && !transactions.isEmpty()) {
-			String[] transPath = transactions.split(MDC_TRANSACTIONS_SEPARATOR);
-			int foundAt = -1;
-			for (int i = 0; i < transPath.length && foundAt < 0; i++) {
-				if (transPath[i].equals(trans.getIdentifier())) {
-					foundAt = i;
-				}
+		if (TransactionStack.remove(trans)) {
+			// don't leave the ended transaction in the MDC
+			if (transactionMarkers) {
+				TransactionStack.refreshMDC(TransactionStack.current());
 			}
-			
-			// create new transactions string from MDC
-			StringBuffer newTransactions = new StringBuffer();
-			for (int i = 0; i < foundAt; i++) {
-				if (i != 0) {
-					newTransactions.append(MDC_TRANSACTIONS_SEPARATOR);
-				}
-				newTransactions.append(transPath[i]);
+			else {
+				TransactionStack.updateMDC(TransactionStack.current());
 			}
-			
-			MDC.put(MDC_TRANSACTIONS, newTransactions.toString());
 		}
 	}
 
@@ -233,7 +600,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void debug(String msg, Throwable t) {
-		log(createMarker(false, null, null, null), fqcn, DEBUG_INT, msg, null, t);
+		Marker marker = createMarker(false, null, null, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			log(marker, fqcn, DEBUG_INT, msg, null, t);
+		}
 	}
 
 	/**
@@ -241,7 +611,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void debug(String msg) {
-		log(createMarker(false, null, null, null), fqcn, DEBUG_INT, msg, null, null);
+		Marker marker = createMarker(false, null, null, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			log(marker, fqcn, DEBUG_INT, msg, null, null);
+		}
 	}
 
 	/**
@@ -249,7 +622,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void error(String msg, Throwable t) {
-		log(createMarker(false, null, null, null), fqcn, ERROR_INT, msg, null, t);
+		Marker marker = createMarker(false, null, null, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			log(marker, fqcn, ERROR_INT, msg, null, t);
+		}
 	}
 
 	/**
@@ -257,7 +633,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void error(String msg) {
-		log(createMarker(false, null, null, null), fqcn, ERROR_INT, msg, null, null);
+		Marker marker = createMarker(false, null, null, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			log(marker, fqcn, ERROR_INT, msg, null, null);
+		}
 	}
 
 	/**
@@ -265,7 +644,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void info(String msg, Throwable t) {
-		log(createMarker(false, null, null, null), fqcn, INFO_INT, msg, null, t);
+		Marker marker = createMarker(false, null, null, null);
+		if (isEnabled(INFO_INT, marker)) {
+			log(marker, fqcn, INFO_INT, msg, null, t);
+		}
 	}
 
 	/**
@@ -273,7 +655,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void info(String msg) {
-		log(createMarker(false, null, null, null), fqcn, INFO_INT, msg, null, null);
+		Marker marker = createMarker(false, null, null, null);
+		if (isEnabled(INFO_INT, marker)) {
+			log(marker, fqcn, INFO_INT, msg, null, null);
+		}
 	}
 
 	/**
@@ -281,7 +666,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void trace(String msg, Throwable t) {
-		log(createMarker(false, null, null, null), fqcn, TRACE_INT, msg, null, t);
+		Marker marker = createMarker(false, null, null, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			log(marker, fqcn, TRACE_INT, msg, null, t);
+		}
 	}
 
 	/**
@@ -289,7 +677,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void trace(String msg) {
-		log(createMarker(false, null, null, null), fqcn, TRACE_INT, msg, null, null);
+		Marker marker = createMarker(false, null, null, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			log(marker, fqcn, TRACE_INT, msg, null, null);
+		}
 	}
 
 	/**
@@ -297,7 +688,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void warn(String msg, Throwable t) {
-		log(createMarker(false, null, null, null), fqcn, WARN_INT, msg, null, t);
+		Marker marker = createMarker(false, null, null, null);
+		if (isEnabled(WARN_INT, marker)) {
+			log(marker, fqcn, WARN_INT, msg, null, t);
+		}
 	}
 
 	/**
@@ -305,7 +699,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void warn(String msg) {
-		log(createMarker(false, null, null, null), fqcn, WARN_INT, msg, null, null);
+		Marker marker = createMarker(false, null, null, null);
+		if (isEnabled(WARN_INT, marker)) {
+			log(marker, fqcn, WARN_INT, msg, null, null);
+		}
 	}
 
 	/**
@@ -314,9 +711,131 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	@Override
 	public void log(Marker marker, String fqcn, int level, String msg, Object[] args,
 			Throwable t) {
+		marker = attachTransactions(marker);
+		
 		if (locationAware) {
 			((LocationAwareLogger) logger).log(marker, fqcn, level, msg, args, t);
 		}
+		else {
+			// location information is not supported by the internal logger
+			logWithoutLocation(marker, level, msg, args, t);
+		}
+	}
+	
+	/**
+	 * Log a message with primitive arguments. By default the arguments are
+	 * boxed and passed on like other arguments, so the message is formatted
+	 * by the internal logger.
+	 * 
+	 * @param marker the message marker, may be <code>null</code>
+	 * @param fqcn the fully qualified class name of the logger
+	 * @param level the log level, one of the {@link LocationAwareLogger}
+	 *   level constants
+	 * @param format the message format
+	 * @param type1 the type of the first argument, see {@link PrimitiveArguments}
+	 * @param bits1 the value bits of the first argument
+	 * @param type2 the type of the second argument,
+	 *   {@link PrimitiveArguments#NONE} if there is only one argument
+	 * @param bits2 the value bits of the second argument
+	 */
+	protected void logPrimitive(Marker marker, String fqcn, int level,
+			String format, char type1, long bits1, char type2, long bits2) {
+		log(marker, fqcn, level, format,
+				PrimitiveArguments.box(type1, bits1, type2, bits2), null);
+	}
+	
+	/**
+	 * Make the open transactions available to the message that is about to
+	 * be logged, either by attaching them to the marker or by updating the
+	 * MDC.
+	 * 
+	 * @param marker the message marker, may be <code>null</code>
+	 * 
+	 * @return the marker to use for the message, may be <code>null</code>
+	 */
+	protected Marker attachTransactions(Marker marker) {
+		TransactionContext context = TransactionStack.current();
+		if (transactionMarkers && (marker == null || marker instanceof APlusMarker)) {
+			// attach the open transactions to the marker
+			if (context != null) {
+				TransactionPathMarker transactions = context.getMarker();
+				if (marker == null) {
+					return emptyMarker.withTransactions(transactions);
+				}
+				else {
+					return ((APlusMarker) marker).withTransactions(transactions);
+				}
+			}
+		}
+		else {
+			// the MDC is only updated with the open transactions when needed
+			TransactionStack.updateMDC(context);
+		}
+		
+		return marker;
+	}
+	
+	/**
+	 * Log a message through the {@link Logger} interface if the internal
+	 * logger is no {@link LocationAwareLogger}
+	 * 
+	 * @param marker the message marker, may be <code>null</code>
+	 * @param level the log level
+	 * @param msg the message or format
+	 * @param args the format arguments, may be <code>null</code>
+	 * @param t the throwable to log, may be <code>null</code>
+	 */
+	private void logWithoutLocation(Marker marker, int level, String msg,
+			Object[] args, Throwable t) {
+		if (args != null && t != null) {
+			// the throwable is recognized as last argument
+			Object[] params = new Object[args.length + 1];
+			System.arraycopy(args, 0, params, 0, args.length);
+			params[args.length] = t;
+			args = params;
+		}
+		
+		switch (level) {
+		case TRACE_INT:
+			if (args != null) {
+				logger.trace(marker, msg, args);
+			}
+			else {
+				logger.trace(marker, msg, t);
+			}
+			break;
+		case DEBUG_INT:
+			if (args != null) {
+				logger.debug(marker, msg, args);
+			}
+			else {
+				logger.debug(marker, msg, t);
+			}
+			break;
+		case INFO_INT:
+			if (args != null) {
+				logger.info(marker, msg, args);
+			}
+			else {
+				logger.info(marker, msg, t);
+			}
+			break;
+		case WARN_INT:
+			if (args != null) {
+				logger.warn(marker, msg, args);
+			}
+			else {
+				logger.warn(marker, msg, t);
+			}
+			break;
+		default:
+			if (args != null) {
+				logger.error(marker, msg, args);
+			}
+			else {
+				logger.error(marker, msg, t);
+			}
+		}
 	}
 
 	/**
@@ -324,7 +843,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void debug(AGroup parent, String msg, Throwable t) {
-		log(createMarker(false, parent, null, null), fqcn, DEBUG_INT, msg, null, t);
+		if (isEnabled(DEBUG_INT, false, parent)) {
+			Marker marker = createMarker(false, parent, null, null);
+			log(marker, fqcn, DEBUG_INT, msg, null, t);
+		}
 	}
 
 	/**
@@ -332,7 +854,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void debug(AGroup parent, String msg) {
-		log(createMarker(false, parent, null, null), fqcn, DEBUG_INT, msg, null, null);
+		if (isEnabled(DEBUG_INT, false, parent)) {
+			Marker marker = createMarker(false, parent, null, null);
+			log(marker, fqcn, DEBUG_INT, msg, null, null);
+		}
 	}
 
 	/**
@@ -340,7 +865,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void error(AGroup parent, String msg, Throwable t) {
-		log(createMarker(false, parent, null, null), fqcn, ERROR_INT, msg, null, t);
+		if (isEnabled(ERROR_INT, false, parent)) {
+			Marker marker = createMarker(false, parent, null, null);
+			log(marker, fqcn, ERROR_INT, msg, null, t);
+		}
 	}
 
 	/**
@@ -348,7 +876,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void error(AGroup parent, String msg) {
-		log(createMarker(false, parent, null, null), fqcn, ERROR_INT, msg, null, null);
+		if (isEnabled(ERROR_INT, false, parent)) {
+			Marker marker = createMarker(false, parent, null, null);
+			log(marker, fqcn, ERROR_INT, msg, null, null);
+		}
 	}
 
 	/**
@@ -356,7 +887,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void info(AGroup parent, String msg, Throwable t) {
-		log(createMarker(false, parent, null, null), fqcn, INFO_INT, msg, null, t);
+		if (isEnabled(INFO_INT, false, parent)) {
+			Marker marker = createMarker(false, parent, null, null);
+			log(marker, fqcn, INFO_INT, msg, null, t);
+		}
 	}
 
 	/**
@@ -364,7 +898,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void info(AGroup parent, String msg) {
-		log(createMarker(false, parent, null, null), fqcn, INFO_INT, msg, null, null);
+		if (isEnabled(INFO_INT, false, parent)) {
+			Marker marker = createMarker(false, parent, null, null);
+			log(marker, fqcn, INFO_INT, msg, null, null);
+		}
 	}
 
 	/**
@@ -372,7 +909,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void trace(AGroup parent, String msg, Throwable t) {
-		log(createMarker(false, parent, null, null), fqcn, TRACE_INT, msg, null, t);
+		if (isEnabled(TRACE_INT, false, parent)) {
+			Marker marker = createMarker(false, parent, null, null);
+			log(marker, fqcn, TRACE_INT, msg, null, t);
+		}
 	}
 
 	/**
@@ -380,7 +920,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void trace(AGroup parent, String msg) {
-		log(createMarker(false, parent, null, null), fqcn, TRACE_INT, msg, null, null);
+		if (isEnabled(TRACE_INT, false, parent)) {
+			Marker marker = createMarker(false, parent, null, null);
+			log(marker, fqcn, TRACE_INT, msg, null, null);
+		}
 	}
 
 	/**
@@ -388,7 +931,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void userError(AGroup parent, String msg, Throwable t) {
-		log(createMarker(true, parent, null, null), fqcn, ERROR_INT, msg, null, t);
+		if (isEnabled(ERROR_INT, true, parent)) {
+			Marker marker = createMarker(true, parent, null, null);
+			log(marker, fqcn, ERROR_INT, msg, null, t);
+		}
 	}
 
 	/**
@@ -396,7 +942,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void userError(AGroup parent, String msg) {
-		log(createMarker(true, parent, null, null), fqcn, ERROR_INT, msg, null, null);
+		if (isEnabled(ERROR_INT, true, parent)) {
+			Marker marker = createMarker(true, parent, null, null);
+			log(marker, fqcn, ERROR_INT, msg, null, null);
+		}
 	}
 
 	/**
@@ -404,7 +953,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void userError(String msg, Throwable t) {
-		log(createMarker(true, null, null, null), fqcn, ERROR_INT, msg, null, t);
+		Marker marker = createMarker(true, null, null, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			log(marker, fqcn, ERROR_INT, msg, null, t);
+		}
 	}
 
 	/**
@@ -412,7 +964,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void userError(String msg) {
-		log(createMarker(true, null, null, null), fqcn, ERROR_INT, msg, null, null);
+		Marker marker = createMarker(true, null, null, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			log(marker, fqcn, ERROR_INT, msg, null, null);
+		}
 	}
 
 	/**
@@ -420,7 +975,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void userInfo(AGroup parent, String msg, Throwable t) {
-		log(createMarker(true, parent, null, null), fqcn, INFO_INT, msg, null, t);
+		if (isEnabled(INFO_INT, true, parent)) {
+			Marker marker = createMarker(true, parent, null, null);
+			log(marker, fqcn, INFO_INT, msg, null, t);
+		}
 	}
 
 	/**
@@ -428,7 +986,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void userInfo(AGroup parent, String msg) {
-		log(createMarker(true, parent, null, null), fqcn, INFO_INT, msg, null, null);
+		if (isEnabled(INFO_INT, true, parent)) {
+			Marker marker = createMarker(true, parent, null, null);
+			log(marker, fqcn, INFO_INT, msg, null, null);
+		}
 	}
 
 	/**
@@ -436,7 +997,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void userInfo(String msg, Throwable t) {
-		log(createMarker(true, null, null, null), fqcn, INFO_INT, msg, null, t);
+		Marker marker = createMarker(true, null, null, null);
+		if (isEnabled(INFO_INT, marker)) {
+			log(marker, fqcn, INFO_INT, msg, null, t);
+		}
 	}
 
 	/**
@@ -444,7 +1008,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void userInfo(String msg) {
-		log(createMarker(true, null, null, null), fqcn, INFO_INT, msg, null, null);
+		Marker marker = createMarker(true, null, null, null);
+		if (isEnabled(INFO_INT, marker)) {
+			log(marker, fqcn, INFO_INT, msg, null, null);
+		}
 	}
 
 	/**
@@ -452,7 +1019,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void userWarn(AGroup parent, String msg, Throwable t) {
-		log(createMarker(true, parent, null, null), fqcn, WARN_INT, msg, null, t);
+		if (isEnabled(WARN_INT, true, parent)) {
+			Marker marker = createMarker(true, parent, null, null);
+			log(marker, fqcn, WARN_INT, msg, null, t);
+		}
 	}
 
 	/**
@@ -460,7 +1030,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void userWarn(AGroup parent, String msg) {
-		log(createMarker(true, parent, null, null), fqcn, WARN_INT, msg, null, null);
+		if (isEnabled(WARN_INT, true, parent)) {
+			Marker marker = createMarker(true, parent, null, null);
+			log(marker, fqcn, WARN_INT, msg, null, null);
+		}
 	}
 
 	/**
@@ -468,7 +1041,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void userWarn(String msg, Throwable t) {
-		log(createMarker(true, null, null, null), fqcn, WARN_INT, msg, null, t);
+		Marker marker = createMarker(true, null, null, null);
+		if (isEnabled(WARN_INT, marker)) {
+			log(marker, fqcn, WARN_INT, msg, null, t);
+		}
 	}
 
 	/**
@@ -476,7 +1052,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void userWarn(String msg) {
-		log(createMarker(true, null, null, null), fqcn, WARN_INT, msg, null, null);
+		Marker marker = createMarker(true, null, null, null);
+		if (isEnabled(WARN_INT, marker)) {
+			log(marker, fqcn, WARN_INT, msg, null, null);
+		}
 	}
 
 	/**
@@ -484,7 +1063,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void warn(AGroup parent, String msg, Throwable t) {
-		log(createMarker(false, parent, null, null), fqcn, WARN_INT, msg, null, t);
+		if (isEnabled(WARN_INT, false, parent)) {
+			Marker marker = createMarker(false, parent, null, null);
+			log(marker, fqcn, WARN_INT, msg, null, t);
+		}
 	}
 
 	/**
@@ -492,7 +1074,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void warn(AGroup parent, String msg) {
-		log(createMarker(false, parent, null, null), fqcn, WARN_INT, msg, null, null);
+		if (isEnabled(WARN_INT, false, parent)) {
+			Marker marker = createMarker(false, parent, null, null);
+			log(marker, fqcn, WARN_INT, msg, null, null);
+		}
 	}
 
 	/**
@@ -500,8 +1085,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void debug(String format, Object arg1, Object arg2) {
-		String msg = MessageFormatter.format(format, arg1, arg2).getMessage();
-		log(createMarker(false, null), fqcn, DEBUG_INT, msg, null, null);
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			log(marker, fqcn, DEBUG_INT, format, new Object[] { arg1, arg2 }, null);
+		}
 	}
 
 	/**
@@ -509,8 +1096,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void debug(String format, Object arg1) {
-		String msg = MessageFormatter.format(format, arg1).getMessage();
-		log(createMarker(false, null), fqcn, DEBUG_INT, msg, null, null);
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			log(marker, fqcn, DEBUG_INT, format, new Object[] { arg1 }, null);
+		}
 	}
 
 	/**
@@ -518,7 +1107,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void debug(String format, Object... args) {
-		log(createMarker(false, null), fqcn, DEBUG_INT, format, args, null);
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			log(marker, fqcn, DEBUG_INT, format, args, null);
+		}
 	}
 
 	/**
@@ -526,8 +1118,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void error(String format, Object arg1, Object arg2) {
-		String msg = MessageFormatter.format(format, arg1, arg2).getMessage();
-		log(createMarker(false, null), fqcn, ERROR_INT, msg, null, null);
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			log(marker, fqcn, ERROR_INT, format, new Object[] { arg1, arg2 }, null);
+		}
 	}
 
 	/**
@@ -535,8 +1129,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void error(String format, Object arg1) {
-		String msg = MessageFormatter.format(format, arg1).getMessage();
-		log(createMarker(false, null), fqcn, ERROR_INT, msg, null, null);
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			log(marker, fqcn, ERROR_INT, format, new Object[] { arg1 }, null);
+		}
 	}
 
 	/**
@@ -544,7 +1140,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void error(String format, Object... args) {
-		log(createMarker(false, null), fqcn, ERROR_INT, format, args, null);
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			log(marker, fqcn, ERROR_INT, format, args, null);
+		}
 	}
 
 	/**
@@ -552,8 +1151,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void info(String format, Object arg1, Object arg2) {
-		String msg = MessageFormatter.format(format, arg1, arg2).getMessage();
-		log(createMarker(false, null), fqcn, INFO_INT, msg, null, null);
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			log(marker, fqcn, INFO_INT, format, new Object[] { arg1, arg2 }, null);
+		}
 	}
 
 	/**
@@ -561,8 +1162,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void info(String format, Object arg1) {
-		String msg = MessageFormatter.format(format, arg1).getMessage();
-		log(createMarker(false, null), fqcn, INFO_INT, msg, null, null);
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			log(marker, fqcn, INFO_INT, format, new Object[] { arg1 }, null);
+		}
 	}
 
 	/**
@@ -570,7 +1173,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void info(String format, Object... args) {
-		log(createMarker(false, null), fqcn, INFO_INT, format, args, null);
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			log(marker, fqcn, INFO_INT, format, args, null);
+		}
 	}
 
 	/**
@@ -578,8 +1184,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void trace(String format, Object arg1, Object arg2) {
-		String msg = MessageFormatter.format(format, arg1, arg2).getMessage();
-		log(createMarker(false, null), fqcn, TRACE_INT, msg, null, null);
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			log(marker, fqcn, TRACE_INT, format, new Object[] { arg1, arg2 }, null);
+		}
 	}
 
 	/**
@@ -587,8 +1195,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void trace(String format, Object arg1) {
-		String msg = MessageFormatter.format(format, arg1).getMessage();
-		log(createMarker(false, null), fqcn, TRACE_INT, msg, null, null);
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			log(marker, fqcn, TRACE_INT, format, new Object[] { arg1 }, null);
+		}
 	}
 
 	/**
@@ -596,7 +1206,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void trace(String format, Object... args) {
-		log(createMarker(false, null), fqcn, TRACE_INT, format, args, null);
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			log(marker, fqcn, TRACE_INT, format, args, null);
+		}
 	}
 
 	/**
@@ -604,8 +1217,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void warn(String format, Object arg1, Object arg2) {
-		String msg = MessageFormatter.format(format, arg1, arg2).getMessage();
-		log(createMarker(false, null), fqcn, WARN_INT, msg, null, null);
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			log(marker, fqcn, WARN_INT, format, new Object[] { arg1, arg2 }, null);
+		}
 	}
 
 	/**
@@ -613,8 +1228,10 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void warn(String format, Object arg1) {
-		String msg = MessageFormatter.format(format, arg1).getMessage();
-		log(createMarker(false, null), fqcn, WARN_INT, msg, null, null);
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			log(marker, fqcn, WARN_INT, format, new Object[] { arg1 }, null);
+		}
 	}
 
 	/**
@@ -622,7 +1239,2341 @@ public class ALoggerImpl extends LoggerWrapper implements ALogger, LocationAware
 	 */
 	@Override
 	public void warn(String format, Object... args) {
-		log(createMarker(false, null), fqcn, WARN_INT, format, args, null);
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			log(marker, fqcn, WARN_INT, format, args, null);
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(Supplier)
+	 */
+	@Override
+	public void trace(Supplier<String> msg) {
+		Marker marker = createMarker(false, null, null, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			log(marker, fqcn, TRACE_INT, msg.get(), null, null);
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(Supplier, Throwable)
+	 */
+	@Override
+	public void trace(Supplier<String> msg, Throwable t) {
+		Marker marker = createMarker(false, null, null, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			log(marker, fqcn, TRACE_INT, msg.get(), null, t);
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(Supplier)
+	 */
+	@Override
+	public void debug(Supplier<String> msg) {
+		Marker marker = createMarker(false, null, null, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			log(marker, fqcn, DEBUG_INT, msg.get(), null, null);
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(Supplier, Throwable)
+	 */
+	@Override
+	public void debug(Supplier<String> msg, Throwable t) {
+		Marker marker = createMarker(false, null, null, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			log(marker, fqcn, DEBUG_INT, msg.get(), null, t);
+		}
+	}
+
+	/**
+	 * @see ALogger#info(Supplier)
+	 */
+	@Override
+	public void info(Supplier<String> msg) {
+		Marker marker = createMarker(false, null, null, null);
+		if (isEnabled(INFO_INT, marker)) {
+			log(marker, fqcn, INFO_INT, msg.get(), null, null);
+		}
+	}
+
+	/**
+	 * @see ALogger#info(Supplier, Throwable)
+	 */
+	@Override
+	public void info(Supplier<String> msg, Throwable t) {
+		Marker marker = createMarker(false, null, null, null);
+		if (isEnabled(INFO_INT, marker)) {
+			log(marker, fqcn, INFO_INT, msg.get(), null, t);
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(Supplier)
+	 */
+	@Override
+	public void warn(Supplier<String> msg) {
+		Marker marker = createMarker(false, null, null, null);
+		if (isEnabled(WARN_INT, marker)) {
+			log(marker, fqcn, WARN_INT, msg.get(), null, null);
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(Supplier, Throwable)
+	 */
+	@Override
+	public void warn(Supplier<String> msg, Throwable t) {
+		Marker marker = createMarker(false, null, null, null);
+		if (isEnabled(WARN_INT, marker)) {
+			log(marker, fqcn, WARN_INT, msg.get(), null, t);
+		}
+	}
+
+	/**
+	 * @see ALogger#error(Supplier)
+	 */
+	@Override
+	public void error(Supplier<String> msg) {
+		Marker marker = createMarker(false, null, null, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			log(marker, fqcn, ERROR_INT, msg.get(), null, null);
+		}
+	}
+
+	/**
+	 * @see ALogger#error(Supplier, Throwable)
+	 */
+	@Override
+	public void error(Supplier<String> msg, Throwable t) {
+		Marker marker = createMarker(false, null, null, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			log(marker, fqcn, ERROR_INT, msg.get(), null, t);
+		}
+	}
+
+	/**
+	 * @see ALogger#userInfo(Supplier)
+	 */
+	@Override
+	public void userInfo(Supplier<String> msg) {
+		Marker marker = createMarker(true, null, null, null);
+		if (isEnabled(INFO_INT, marker)) {
+			log(marker, fqcn, INFO_INT, msg.get(), null, null);
+		}
+	}
+
+	/**
+	 * @see ALogger#userInfo(Supplier, Throwable)
+	 */
+	@Override
+	public void userInfo(Supplier<String> msg, Throwable t) {
+		Marker marker = createMarker(true, null, null, null);
+		if (isEnabled(INFO_INT, marker)) {
+			log(marker, fqcn, INFO_INT, msg.get(), null, t);
+		}
+	}
+
+	/**
+	 * @see ALogger#userWarn(Supplier)
+	 */
+	@Override
+	public void userWarn(Supplier<String> msg) {
+		Marker marker = createMarker(true, null, null, null);
+		if (isEnabled(WARN_INT, marker)) {
+			log(marker, fqcn, WARN_INT, msg.get(), null, null);
+		}
+	}
+
+	/**
+	 * @see ALogger#userWarn(Supplier, Throwable)
+	 */
+	@Override
+	public void userWarn(Supplier<String> msg, Throwable t) {
+		Marker marker = createMarker(true, null, null, null);
+		if (isEnabled(WARN_INT, marker)) {
+			log(marker, fqcn, WARN_INT, msg.get(), null, t);
+		}
+	}
+
+	/**
+	 * @see ALogger#userError(Supplier)
+	 */
+	@Override
+	public void userError(Supplier<String> msg) {
+		Marker marker = createMarker(true, null, null, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			log(marker, fqcn, ERROR_INT, msg.get(), null, null);
+		}
+	}
+
+	/**
+	 * @see ALogger#userError(Supplier, Throwable)
+	 */
+	@Override
+	public void userError(Supplier<String> msg, Throwable t) {
+		Marker marker = createMarker(true, null, null, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			log(marker, fqcn, ERROR_INT, msg.get(), null, t);
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(AGroup, Supplier)
+	 */
+	@Override
+	public void trace(AGroup parent, Supplier<String> msg) {
+		if (isEnabled(TRACE_INT, false, parent)) {
+			Marker marker = createMarker(false, parent, null, null);
+			log(marker, fqcn, TRACE_INT, msg.get(), null, null);
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(AGroup, Supplier, Throwable)
+	 */
+	@Override
+	public void trace(AGroup parent, Supplier<String> msg, Throwable t) {
+		if (isEnabled(TRACE_INT, false, parent)) {
+			Marker marker = createMarker(false, parent, null, null);
+			log(marker, fqcn, TRACE_INT, msg.get(), null, t);
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(AGroup, Supplier)
+	 */
+	@Override
+	public void debug(AGroup parent, Supplier<String> msg) {
+		if (isEnabled(DEBUG_INT, false, parent)) {
+			Marker marker = createMarker(false, parent, null, null);
+			log(marker, fqcn, DEBUG_INT, msg.get(), null, null);
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(AGroup, Supplier, Throwable)
+	 */
+	@Override
+	public void debug(AGroup parent, Supplier<String> msg, Throwable t) {
+		if (isEnabled(DEBUG_INT, false, parent)) {
+			Marker marker = createMarker(false, parent, null, null);
+			log(marker, fqcn, DEBUG_INT, msg.get(), null, t);
+		}
+	}
+
+	/**
+	 * @see ALogger#info(AGroup, Supplier)
+	 */
+	@Override
+	public void info(AGroup parent, Supplier<String> msg) {
+		if (isEnabled(INFO_INT, false, parent)) {
+			Marker marker = createMarker(false, parent, null, null);
+			log(marker, fqcn, INFO_INT, msg.get(), null, null);
+		}
+	}
+
+	/**
+	 * @see ALogger#info(AGroup, Supplier, Throwable)
+	 */
+	@Override
+	public void info(AGroup parent, Supplier<String> msg, Throwable t) {
+		if (isEnabled(INFO_INT, false, parent)) {
+			Marker marker = createMarker(false, parent, null, null);
+			log(marker, fqcn, INFO_INT, msg.get(), null, t);
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(AGroup, Supplier)
+	 */
+	@Override
+	public void warn(AGroup parent, Supplier<String> msg) {
+		if (isEnabled(WARN_INT, false, parent)) {
+			Marker marker = createMarker(false, parent, null, null);
+			log(marker, fqcn, WARN_INT, msg.get(), null, null);
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(AGroup, Supplier, Throwable)
+	 */
+	@Override
+	public void warn(AGroup parent, Supplier<String> msg, Throwable t) {
+		if (isEnabled(WARN_INT, false, parent)) {
+			Marker marker = createMarker(false, parent, null, null);
+			log(marker, fqcn, WARN_INT, msg.get(), null, t);
+		}
+	}
+
+	/**
+	 * @see ALogger#error(AGroup, Supplier)
+	 */
+	@Override
+	public void error(AGroup parent, Supplier<String> msg) {
+		if (isEnabled(ERROR_INT, false, parent)) {
+			Marker marker = createMarker(false, parent, null, null);
+			log(marker, fqcn, ERROR_INT, msg.get(), null, null);
+		}
+	}
+
+	/**
+	 * @see ALogger#error(AGroup, Supplier, Throwable)
+	 */
+	@Override
+	public void error(AGroup parent, Supplier<String> msg, Throwable t) {
+		if (isEnabled(ERROR_INT, false, parent)) {
+			Marker marker = createMarker(false, parent, null, null);
+			log(marker, fqcn, ERROR_INT, msg.get(), null, t);
+		}
+	}
+
+	/**
+	 * @see ALogger#userInfo(AGroup, Supplier)
+	 */
+	@Override
+	public void userInfo(AGroup parent, Supplier<String> msg) {
+		if (isEnabled(INFO_INT, true, parent)) {
+			Marker marker = createMarker(true, parent, null, null);
+			log(marker, fqcn, INFO_INT, msg.get(), null, null);
+		}
+	}
+
+	/**
+	 * @see ALogger#userInfo(AGroup, Supplier, Throwable)
+	 */
+	@Override
+	public void userInfo(AGroup parent, Supplier<String> msg, Throwable t) {
+		if (isEnabled(INFO_INT, true, parent)) {
+			Marker marker = createMarker(true, parent, null, null);
+			log(marker, fqcn, INFO_INT, msg.get(), null, t);
+		}
+	}
+
+	/**
+	 * @see ALogger#userWarn(AGroup, Supplier)
+	 */
+	@Override
+	public void userWarn(AGroup parent, Supplier<String> msg) {
+		if (isEnabled(WARN_INT, true, parent)) {
+			Marker marker = createMarker(true, parent, null, null);
+			log(marker, fqcn, WARN_INT, msg.get(), null, null);
+		}
+	}
+
+	/**
+	 * @see ALogger#userWarn(AGroup, Supplier, Throwable)
+	 */
+	@Override
+	public void userWarn(AGroup parent, Supplier<String> msg, Throwable t) {
+		if (isEnabled(WARN_INT, true, parent)) {
+			Marker marker = createMarker(true, parent, null, null);
+			log(marker, fqcn, WARN_INT, msg.get(), null, t);
+		}
+	}
+
+	/**
+	 * @see ALogger#userError(AGroup, Supplier)
+	 */
+	@Override
+	public void userError(AGroup parent, Supplier<String> msg) {
+		if (isEnabled(ERROR_INT, true, parent)) {
+			Marker marker = createMarker(true, parent, null, null);
+			log(marker, fqcn, ERROR_INT, msg.get(), null, null);
+		}
+	}
+
+	/**
+	 * @see ALogger#userError(AGroup, Supplier, Throwable)
+	 */
+	@Override
+	public void userError(AGroup parent, Supplier<String> msg, Throwable t) {
+		if (isEnabled(ERROR_INT, true, parent)) {
+			Marker marker = createMarker(true, parent, null, null);
+			log(marker, fqcn, ERROR_INT, msg.get(), null, t);
+		}
+	}
+
+	/**
+	 * @see ALogger#userInfo(String, Object[])
+	 */
+	@Override
+	public void userInfo(String format, Object... args) {
+		Marker marker = createMarker(true, null, null, null);
+		if (isEnabled(INFO_INT, marker)) {
+			log(marker, fqcn, INFO_INT, format, args, null);
+		}
+	}
+
+	/**
+	 * @see ALogger#userWarn(String, Object[])
+	 */
+	@Override
+	public void userWarn(String format, Object... args) {
+		Marker marker = createMarker(true, null, null, null);
+		if (isEnabled(WARN_INT, marker)) {
+			log(marker, fqcn, WARN_INT, format, args, null);
+		}
+	}
+
+	/**
+	 * @see ALogger#userError(String, Object[])
+	 */
+	@Override
+	public void userError(String format, Object... args) {
+		Marker marker = createMarker(true, null, null, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			log(marker, fqcn, ERROR_INT, format, args, null);
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(AGroup, String, Object[])
+	 */
+	@Override
+	public void trace(AGroup parent, String format, Object... args) {
+		if (isEnabled(TRACE_INT, false, parent)) {
+			Marker marker = createMarker(false, parent, null, null);
+			log(marker, fqcn, TRACE_INT, format, args, null);
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(AGroup, String, Object[])
+	 */
+	@Override
+	public void debug(AGroup parent, String format, Object... args) {
+		if (isEnabled(DEBUG_INT, false, parent)) {
+			Marker marker = createMarker(false, parent, null, null);
+			log(marker, fqcn, DEBUG_INT, format, args, null);
+		}
+	}
+
+	/**
+	 * @see ALogger#info(AGroup, String, Object[])
+	 */
+	@Override
+	public void info(AGroup parent, String format, Object... args) {
+		if (isEnabled(INFO_INT, false, parent)) {
+			Marker marker = createMarker(false, parent, null, null);
+			log(marker, fqcn, INFO_INT, format, args, null);
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(AGroup, String, Object[])
+	 */
+	@Override
+	public void warn(AGroup parent, String format, Object... args) {
+		if (isEnabled(WARN_INT, false, parent)) {
+			Marker marker = createMarker(false, parent, null, null);
+			log(marker, fqcn, WARN_INT, format, args, null);
+		}
+	}
+
+	/**
+	 * @see ALogger#error(AGroup, String, Object[])
+	 */
+	@Override
+	public void error(AGroup parent, String format, Object... args) {
+		if (isEnabled(ERROR_INT, false, parent)) {
+			Marker marker = createMarker(false, parent, null, null);
+			log(marker, fqcn, ERROR_INT, format, args, null);
+		}
+	}
+
+	/**
+	 * @see ALogger#userInfo(AGroup, String, Object[])
+	 */
+	@Override
+	public void userInfo(AGroup parent, String format, Object... args) {
+		if (isEnabled(INFO_INT, true, parent)) {
+			Marker marker = createMarker(true, parent, null, null);
+			log(marker, fqcn, INFO_INT, format, args, null);
+		}
+	}
+
+	/**
+	 * @see ALogger#userWarn(AGroup, String, Object[])
+	 */
+	@Override
+	public void userWarn(AGroup parent, String format, Object... args) {
+		if (isEnabled(WARN_INT, true, parent)) {
+			Marker marker = createMarker(true, parent, null, null);
+			log(marker, fqcn, WARN_INT, format, args, null);
+		}
+	}
+
+	/**
+	 * @see ALogger#userError(AGroup, String, Object[])
+	 */
+	@Override
+	public void userError(AGroup parent, String format, Object... args) {
+		if (isEnabled(ERROR_INT, true, parent)) {
+			Marker marker = createMarker(true, parent, null, null);
+			log(marker, fqcn, ERROR_INT, format, args, null);
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, int)
+	 */
+	@Override
+	public void trace(String format, int arg) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.INT, arg,
+					PrimitiveArguments.NONE, 0);
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, long)
+	 */
+	@Override
+	public void trace(String format, long arg) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.LONG, arg,
+					PrimitiveArguments.NONE, 0);
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, float)
+	 */
+	@Override
+	public void trace(String format, float arg) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg),
+					PrimitiveArguments.NONE, 0);
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, double)
+	 */
+	@Override
+	public void trace(String format, double arg) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg),
+					PrimitiveArguments.NONE, 0);
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, char)
+	 */
+	@Override
+	public void trace(String format, char arg) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.CHAR, arg,
+					PrimitiveArguments.NONE, 0);
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, int, int)
+	 */
+	@Override
+	public void trace(String format, int arg1, int arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.INT, arg1,
+					PrimitiveArguments.INT, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, int, long)
+	 */
+	@Override
+	public void trace(String format, int arg1, long arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.INT, arg1,
+					PrimitiveArguments.LONG, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, int, float)
+	 */
+	@Override
+	public void trace(String format, int arg1, float arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.INT, arg1,
+					PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, int, double)
+	 */
+	@Override
+	public void trace(String format, int arg1, double arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.INT, arg1,
+					PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, int, char)
+	 */
+	@Override
+	public void trace(String format, int arg1, char arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.INT, arg1,
+					PrimitiveArguments.CHAR, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, long, int)
+	 */
+	@Override
+	public void trace(String format, long arg1, int arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.LONG, arg1,
+					PrimitiveArguments.INT, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, long, long)
+	 */
+	@Override
+	public void trace(String format, long arg1, long arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.LONG, arg1,
+					PrimitiveArguments.LONG, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, long, float)
+	 */
+	@Override
+	public void trace(String format, long arg1, float arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.LONG, arg1,
+					PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, long, double)
+	 */
+	@Override
+	public void trace(String format, long arg1, double arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.LONG, arg1,
+					PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, long, char)
+	 */
+	@Override
+	public void trace(String format, long arg1, char arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.LONG, arg1,
+					PrimitiveArguments.CHAR, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, float, int)
+	 */
+	@Override
+	public void trace(String format, float arg1, int arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.INT, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, float, long)
+	 */
+	@Override
+	public void trace(String format, float arg1, long arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.LONG, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, float, float)
+	 */
+	@Override
+	public void trace(String format, float arg1, float arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, float, double)
+	 */
+	@Override
+	public void trace(String format, float arg1, double arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, float, char)
+	 */
+	@Override
+	public void trace(String format, float arg1, char arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.CHAR, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, double, int)
+	 */
+	@Override
+	public void trace(String format, double arg1, int arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.INT, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, double, long)
+	 */
+	@Override
+	public void trace(String format, double arg1, long arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.LONG, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, double, float)
+	 */
+	@Override
+	public void trace(String format, double arg1, float arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, double, double)
+	 */
+	@Override
+	public void trace(String format, double arg1, double arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, double, char)
+	 */
+	@Override
+	public void trace(String format, double arg1, char arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.CHAR, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, char, int)
+	 */
+	@Override
+	public void trace(String format, char arg1, int arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.CHAR, arg1,
+					PrimitiveArguments.INT, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, char, long)
+	 */
+	@Override
+	public void trace(String format, char arg1, long arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.CHAR, arg1,
+					PrimitiveArguments.LONG, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, char, float)
+	 */
+	@Override
+	public void trace(String format, char arg1, float arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.CHAR, arg1,
+					PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, char, double)
+	 */
+	@Override
+	public void trace(String format, char arg1, double arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.CHAR, arg1,
+					PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#trace(String, char, char)
+	 */
+	@Override
+	public void trace(String format, char arg1, char arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(TRACE_INT, marker)) {
+			logPrimitive(marker, fqcn, TRACE_INT, format, PrimitiveArguments.CHAR, arg1,
+					PrimitiveArguments.CHAR, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, int)
+	 */
+	@Override
+	public void debug(String format, int arg) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.INT, arg,
+					PrimitiveArguments.NONE, 0);
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, long)
+	 */
+	@Override
+	public void debug(String format, long arg) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.LONG, arg,
+					PrimitiveArguments.NONE, 0);
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, float)
+	 */
+	@Override
+	public void debug(String format, float arg) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg),
+					PrimitiveArguments.NONE, 0);
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, double)
+	 */
+	@Override
+	public void debug(String format, double arg) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg),
+					PrimitiveArguments.NONE, 0);
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, char)
+	 */
+	@Override
+	public void debug(String format, char arg) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.CHAR, arg,
+					PrimitiveArguments.NONE, 0);
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, int, int)
+	 */
+	@Override
+	public void debug(String format, int arg1, int arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.INT, arg1,
+					PrimitiveArguments.INT, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, int, long)
+	 */
+	@Override
+	public void debug(String format, int arg1, long arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.INT, arg1,
+					PrimitiveArguments.LONG, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, int, float)
+	 */
+	@Override
+	public void debug(String format, int arg1, float arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.INT, arg1,
+					PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, int, double)
+	 */
+	@Override
+	public void debug(String format, int arg1, double arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.INT, arg1,
+					PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, int, char)
+	 */
+	@Override
+	public void debug(String format, int arg1, char arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.INT, arg1,
+					PrimitiveArguments.CHAR, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, long, int)
+	 */
+	@Override
+	public void debug(String format, long arg1, int arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.LONG, arg1,
+					PrimitiveArguments.INT, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, long, long)
+	 */
+	@Override
+	public void debug(String format, long arg1, long arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.LONG, arg1,
+					PrimitiveArguments.LONG, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, long, float)
+	 */
+	@Override
+	public void debug(String format, long arg1, float arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.LONG, arg1,
+					PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, long, double)
+	 */
+	@Override
+	public void debug(String format, long arg1, double arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.LONG, arg1,
+					PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, long, char)
+	 */
+	@Override
+	public void debug(String format, long arg1, char arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.LONG, arg1,
+					PrimitiveArguments.CHAR, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, float, int)
+	 */
+	@Override
+	public void debug(String format, float arg1, int arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.INT, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, float, long)
+	 */
+	@Override
+	public void debug(String format, float arg1, long arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.LONG, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, float, float)
+	 */
+	@Override
+	public void debug(String format, float arg1, float arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, float, double)
+	 */
+	@Override
+	public void debug(String format, float arg1, double arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, float, char)
+	 */
+	@Override
+	public void debug(String format, float arg1, char arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.CHAR, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, double, int)
+	 */
+	@Override
+	public void debug(String format, double arg1, int arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.INT, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, double, long)
+	 */
+	@Override
+	public void debug(String format, double arg1, long arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.LONG, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, double, float)
+	 */
+	@Override
+	public void debug(String format, double arg1, float arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, double, double)
+	 */
+	@Override
+	public void debug(String format, double arg1, double arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, double, char)
+	 */
+	@Override
+	public void debug(String format, double arg1, char arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.CHAR, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, char, int)
+	 */
+	@Override
+	public void debug(String format, char arg1, int arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.CHAR, arg1,
+					PrimitiveArguments.INT, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, char, long)
+	 */
+	@Override
+	public void debug(String format, char arg1, long arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.CHAR, arg1,
+					PrimitiveArguments.LONG, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, char, float)
+	 */
+	@Override
+	public void debug(String format, char arg1, float arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.CHAR, arg1,
+					PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, char, double)
+	 */
+	@Override
+	public void debug(String format, char arg1, double arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.CHAR, arg1,
+					PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#debug(String, char, char)
+	 */
+	@Override
+	public void debug(String format, char arg1, char arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(DEBUG_INT, marker)) {
+			logPrimitive(marker, fqcn, DEBUG_INT, format, PrimitiveArguments.CHAR, arg1,
+					PrimitiveArguments.CHAR, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, int)
+	 */
+	@Override
+	public void info(String format, int arg) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.INT, arg,
+					PrimitiveArguments.NONE, 0);
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, long)
+	 */
+	@Override
+	public void info(String format, long arg) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.LONG, arg,
+					PrimitiveArguments.NONE, 0);
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, float)
+	 */
+	@Override
+	public void info(String format, float arg) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg),
+					PrimitiveArguments.NONE, 0);
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, double)
+	 */
+	@Override
+	public void info(String format, double arg) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg),
+					PrimitiveArguments.NONE, 0);
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, char)
+	 */
+	@Override
+	public void info(String format, char arg) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.CHAR, arg,
+					PrimitiveArguments.NONE, 0);
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, int, int)
+	 */
+	@Override
+	public void info(String format, int arg1, int arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.INT, arg1,
+					PrimitiveArguments.INT, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, int, long)
+	 */
+	@Override
+	public void info(String format, int arg1, long arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.INT, arg1,
+					PrimitiveArguments.LONG, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, int, float)
+	 */
+	@Override
+	public void info(String format, int arg1, float arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.INT, arg1,
+					PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, int, double)
+	 */
+	@Override
+	public void info(String format, int arg1, double arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.INT, arg1,
+					PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, int, char)
+	 */
+	@Override
+	public void info(String format, int arg1, char arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.INT, arg1,
+					PrimitiveArguments.CHAR, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, long, int)
+	 */
+	@Override
+	public void info(String format, long arg1, int arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.LONG, arg1,
+					PrimitiveArguments.INT, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, long, long)
+	 */
+	@Override
+	public void info(String format, long arg1, long arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.LONG, arg1,
+					PrimitiveArguments.LONG, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, long, float)
+	 */
+	@Override
+	public void info(String format, long arg1, float arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.LONG, arg1,
+					PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, long, double)
+	 */
+	@Override
+	public void info(String format, long arg1, double arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.LONG, arg1,
+					PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, long, char)
+	 */
+	@Override
+	public void info(String format, long arg1, char arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.LONG, arg1,
+					PrimitiveArguments.CHAR, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, float, int)
+	 */
+	@Override
+	public void info(String format, float arg1, int arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.INT, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, float, long)
+	 */
+	@Override
+	public void info(String format, float arg1, long arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.LONG, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, float, float)
+	 */
+	@Override
+	public void info(String format, float arg1, float arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, float, double)
+	 */
+	@Override
+	public void info(String format, float arg1, double arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, float, char)
+	 */
+	@Override
+	public void info(String format, float arg1, char arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.CHAR, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, double, int)
+	 */
+	@Override
+	public void info(String format, double arg1, int arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.INT, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, double, long)
+	 */
+	@Override
+	public void info(String format, double arg1, long arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.LONG, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, double, float)
+	 */
+	@Override
+	public void info(String format, double arg1, float arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, double, double)
+	 */
+	@Override
+	public void info(String format, double arg1, double arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, double, char)
+	 */
+	@Override
+	public void info(String format, double arg1, char arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.CHAR, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, char, int)
+	 */
+	@Override
+	public void info(String format, char arg1, int arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.CHAR, arg1,
+					PrimitiveArguments.INT, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, char, long)
+	 */
+	@Override
+	public void info(String format, char arg1, long arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.CHAR, arg1,
+					PrimitiveArguments.LONG, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, char, float)
+	 */
+	@Override
+	public void info(String format, char arg1, float arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.CHAR, arg1,
+					PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, char, double)
+	 */
+	@Override
+	public void info(String format, char arg1, double arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.CHAR, arg1,
+					PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#info(String, char, char)
+	 */
+	@Override
+	public void info(String format, char arg1, char arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(INFO_INT, marker)) {
+			logPrimitive(marker, fqcn, INFO_INT, format, PrimitiveArguments.CHAR, arg1,
+					PrimitiveArguments.CHAR, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, int)
+	 */
+	@Override
+	public void warn(String format, int arg) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.INT, arg,
+					PrimitiveArguments.NONE, 0);
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, long)
+	 */
+	@Override
+	public void warn(String format, long arg) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.LONG, arg,
+					PrimitiveArguments.NONE, 0);
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, float)
+	 */
+	@Override
+	public void warn(String format, float arg) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg),
+					PrimitiveArguments.NONE, 0);
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, double)
+	 */
+	@Override
+	public void warn(String format, double arg) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg),
+					PrimitiveArguments.NONE, 0);
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, char)
+	 */
+	@Override
+	public void warn(String format, char arg) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.CHAR, arg,
+					PrimitiveArguments.NONE, 0);
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, int, int)
+	 */
+	@Override
+	public void warn(String format, int arg1, int arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.INT, arg1,
+					PrimitiveArguments.INT, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, int, long)
+	 */
+	@Override
+	public void warn(String format, int arg1, long arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.INT, arg1,
+					PrimitiveArguments.LONG, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, int, float)
+	 */
+	@Override
+	public void warn(String format, int arg1, float arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.INT, arg1,
+					PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, int, double)
+	 */
+	@Override
+	public void warn(String format, int arg1, double arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.INT, arg1,
+					PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, int, char)
+	 */
+	@Override
+	public void warn(String format, int arg1, char arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.INT, arg1,
+					PrimitiveArguments.CHAR, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, long, int)
+	 */
+	@Override
+	public void warn(String format, long arg1, int arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.LONG, arg1,
+					PrimitiveArguments.INT, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, long, long)
+	 */
+	@Override
+	public void warn(String format, long arg1, long arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.LONG, arg1,
+					PrimitiveArguments.LONG, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, long, float)
+	 */
+	@Override
+	public void warn(String format, long arg1, float arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.LONG, arg1,
+					PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, long, double)
+	 */
+	@Override
+	public void warn(String format, long arg1, double arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.LONG, arg1,
+					PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, long, char)
+	 */
+	@Override
+	public void warn(String format, long arg1, char arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.LONG, arg1,
+					PrimitiveArguments.CHAR, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, float, int)
+	 */
+	@Override
+	public void warn(String format, float arg1, int arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.INT, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, float, long)
+	 */
+	@Override
+	public void warn(String format, float arg1, long arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.LONG, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, float, float)
+	 */
+	@Override
+	public void warn(String format, float arg1, float arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, float, double)
+	 */
+	@Override
+	public void warn(String format, float arg1, double arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, float, char)
+	 */
+	@Override
+	public void warn(String format, float arg1, char arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.CHAR, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, double, int)
+	 */
+	@Override
+	public void warn(String format, double arg1, int arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.INT, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, double, long)
+	 */
+	@Override
+	public void warn(String format, double arg1, long arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.LONG, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, double, float)
+	 */
+	@Override
+	public void warn(String format, double arg1, float arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, double, double)
+	 */
+	@Override
+	public void warn(String format, double arg1, double arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, double, char)
+	 */
+	@Override
+	public void warn(String format, double arg1, char arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.CHAR, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, char, int)
+	 */
+	@Override
+	public void warn(String format, char arg1, int arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.CHAR, arg1,
+					PrimitiveArguments.INT, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, char, long)
+	 */
+	@Override
+	public void warn(String format, char arg1, long arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.CHAR, arg1,
+					PrimitiveArguments.LONG, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, char, float)
+	 */
+	@Override
+	public void warn(String format, char arg1, float arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.CHAR, arg1,
+					PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, char, double)
+	 */
+	@Override
+	public void warn(String format, char arg1, double arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.CHAR, arg1,
+					PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#warn(String, char, char)
+	 */
+	@Override
+	public void warn(String format, char arg1, char arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(WARN_INT, marker)) {
+			logPrimitive(marker, fqcn, WARN_INT, format, PrimitiveArguments.CHAR, arg1,
+					PrimitiveArguments.CHAR, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, int)
+	 */
+	@Override
+	public void error(String format, int arg) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.INT, arg,
+					PrimitiveArguments.NONE, 0);
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, long)
+	 */
+	@Override
+	public void error(String format, long arg) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.LONG, arg,
+					PrimitiveArguments.NONE, 0);
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, float)
+	 */
+	@Override
+	public void error(String format, float arg) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg),
+					PrimitiveArguments.NONE, 0);
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, double)
+	 */
+	@Override
+	public void error(String format, double arg) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg),
+					PrimitiveArguments.NONE, 0);
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, char)
+	 */
+	@Override
+	public void error(String format, char arg) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.CHAR, arg,
+					PrimitiveArguments.NONE, 0);
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, int, int)
+	 */
+	@Override
+	public void error(String format, int arg1, int arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.INT, arg1,
+					PrimitiveArguments.INT, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, int, long)
+	 */
+	@Override
+	public void error(String format, int arg1, long arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.INT, arg1,
+					PrimitiveArguments.LONG, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, int, float)
+	 */
+	@Override
+	public void error(String format, int arg1, float arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.INT, arg1,
+					PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, int, double)
+	 */
+	@Override
+	public void error(String format, int arg1, double arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.INT, arg1,
+					PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, int, char)
+	 */
+	@Override
+	public void error(String format, int arg1, char arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.INT, arg1,
+					PrimitiveArguments.CHAR, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, long, int)
+	 */
+	@Override
+	public void error(String format, long arg1, int arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.LONG, arg1,
+					PrimitiveArguments.INT, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, long, long)
+	 */
+	@Override
+	public void error(String format, long arg1, long arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.LONG, arg1,
+					PrimitiveArguments.LONG, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, long, float)
+	 */
+	@Override
+	public void error(String format, long arg1, float arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.LONG, arg1,
+					PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, long, double)
+	 */
+	@Override
+	public void error(String format, long arg1, double arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.LONG, arg1,
+					PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, long, char)
+	 */
+	@Override
+	public void error(String format, long arg1, char arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.LONG, arg1,
+					PrimitiveArguments.CHAR, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, float, int)
+	 */
+	@Override
+	public void error(String format, float arg1, int arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.INT, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, float, long)
+	 */
+	@Override
+	public void error(String format, float arg1, long arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.LONG, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, float, float)
+	 */
+	@Override
+	public void error(String format, float arg1, float arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, float, double)
+	 */
+	@Override
+	public void error(String format, float arg1, double arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, float, char)
+	 */
+	@Override
+	public void error(String format, float arg1, char arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.CHAR, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, double, int)
+	 */
+	@Override
+	public void error(String format, double arg1, int arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.INT, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, double, long)
+	 */
+	@Override
+	public void error(String format, double arg1, long arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.LONG, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, double, float)
+	 */
+	@Override
+	public void error(String format, double arg1, float arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, double, double)
+	 */
+	@Override
+	public void error(String format, double arg1, double arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, double, char)
+	 */
+	@Override
+	public void error(String format, double arg1, char arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg1),
+					PrimitiveArguments.CHAR, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, char, int)
+	 */
+	@Override
+	public void error(String format, char arg1, int arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.CHAR, arg1,
+					PrimitiveArguments.INT, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, char, long)
+	 */
+	@Override
+	public void error(String format, char arg1, long arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.CHAR, arg1,
+					PrimitiveArguments.LONG, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, char, float)
+	 */
+	@Override
+	public void error(String format, char arg1, float arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.CHAR, arg1,
+					PrimitiveArguments.FLOAT, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, char, double)
+	 */
+	@Override
+	public void error(String format, char arg1, double arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.CHAR, arg1,
+					PrimitiveArguments.DOUBLE, PrimitiveArguments.bits(arg2));
+		}
+	}
+
+	/**
+	 * @see ALogger#error(String, char, char)
+	 */
+	@Override
+	public void error(String format, char arg1, char arg2) {
+		Marker marker = createMarker(false, null);
+		if (isEnabled(ERROR_INT, marker)) {
+			logPrimitive(marker, fqcn, ERROR_INT, format, PrimitiveArguments.CHAR, arg1,
+					PrimitiveArguments.CHAR, arg2);
+		}
+	}
+
+	/**
+	 * @see ALogger#atTrace()
+	 */
+	@Override
+	public AEventBuilder atTrace() {
+		return atLevel(TRACE_INT);
+	}
+
+	/**
+	 * @see ALogger#atDebug()
+	 */
+	@Override
+	public AEventBuilder atDebug() {
+		return atLevel(DEBUG_INT);
+	}
+
+	/**
+	 * @see ALogger#atInfo()
+	 */
+	@Override
+	public AEventBuilder atInfo() {
+		return atLevel(INFO_INT);
+	}
+
+	/**
+	 * @see ALogger#atWarn()
+	 */
+	@Override
+	public AEventBuilder atWarn() {
+		return atLevel(WARN_INT);
+	}
+
+	/**
+	 * @see ALogger#atError()
+	 */
+	@Override
+	public AEventBuilder atError() {
+		return atLevel(ERROR_INT);
+	}
+
+	/**
+	 * Start building a message at the given level. If the level is disabled
+	 * for messages without user and group markers, a builder that ignores
+	 * all calls is returned, unless the decision may depend on the marker.
+	 * Then the level is checked again when the message is logged.
+	 * 
+	 * @param level the log level
+	 * 
+	 * @return the message builder
+	 */
+	private AEventBuilder atLevel(int level) {
+		boolean enabled = isEnabled(level, markers[0]);
+		if (!enabled && !isMarkerSensitive()) {
+			return AEventBuilderImpl.NOP;
+		}
+		return AEventBuilderImpl.acquire(this, level, enabled);
 	}
 
 }
@@ -0,0 +1,349 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.slf4j.Marker;
+
+import de.fhg.igd.slf4jplus.ALoggerConstants;
+import de.fhg.igd.slf4jplus.ALoggerUtil;
+
+/**
+ * Immutable wrapper marker created by the enhanced logger. It references the
+ * same markers as a wrapper marker created with the {@link org.slf4j.MarkerFactory}
+ * but additionally stores the information represented by them, so
+ * {@link ALoggerUtil} doesn't have to search the marker references.
+ *
+ * @author Simon Templer
+ */
+public class APlusMarker implements Marker, ALoggerConstants {
+
+	private static final long serialVersionUID = -1504460741212826717L;
+
+	private final String bundleName;
+
+	private final String groupName;
+
+	private final boolean userMessage;
+
+	private final boolean beginsTransaction;
+
+	private final boolean endsTransaction;
+
+	private final List<Marker> references;
+	
+	private final TransactionPathMarker transactions;
+	
+	private final long duration;
+
+	/**
+	 * Create a wrapper marker
+	 *
+	 * @param bundleName the bundle name, may be <code>null</code>
+	 * @param bundleMarker the bundle marker, may be <code>null</code>
+	 * @param userMessage if the message is a user message
+	 * @param groupName the group name, may be <code>null</code>
+	 * @param groupMarker the group marker, may be <code>null</code>
+	 * @param beginsTransaction if the message begins a transaction
+	 * @param endsTransaction if the message ends a transaction
+	 */
+	public APlusMarker(String bundleName, Marker bundleMarker,
+			boolean userMessage, String groupName, Marker groupMarker,
+			boolean beginsTransaction, boolean endsTransaction) {
+		super();
+
+		this.bundleName = bundleName;
+		this.userMessage = userMessage;
+		this.groupName = groupName;
+		this.beginsTransaction = beginsTransaction;
+		this.endsTransaction = endsTransaction;
+
+		List<Marker> refs = new ArrayList<Marker>();
+		if (bundleMarker != null) {
+			refs.add(bundleMarker);
+		}
+		if (userMessage) {
+			refs.add(USER_MESSAGE);
+		}
+		if (groupMarker != null) {
+			refs.add(groupMarker);
+		}
+		if (beginsTransaction) {
+			refs.add(TRANSACTION_BEGIN);
+		}
+		if (endsTransaction) {
+			refs.add(TRANSACTION_END);
+		}
+		this.references = Collections.unmodifiableList(refs);
+		this.transactions = null;
+		this.duration = -1;
+	}
+	
+	/**
+	 * Create a copy of the given marker that references the given
+	 * transaction path marker and holds the given transaction duration
+	 * 
+	 * @param other the marker to copy
+	 * @param transactions the transaction path marker
+	 * @param duration the transaction duration in nanoseconds, a negative
+	 *   value if none
+	 */
+	private APlusMarker(APlusMarker other, TransactionPathMarker transactions,
+			long duration) {
+		super();
+		
+		this.bundleName = other.bundleName;
+		this.userMessage = other.userMessage;
+		this.groupName = other.groupName;
+		this.beginsTransaction = other.beginsTransaction;
+		this.endsTransaction = other.endsTransaction;
+		this.references = other.references;
+		this.transactions = transactions;
+		this.duration = duration;
+	}
+	
+	/**
+	 * Create a copy of this marker that references the given transaction
+	 * path marker
+	 * 
+	 * @param transactions the transaction path marker
+	 * 
+	 * @return the new marker
+	 */
+	public APlusMarker withTransactions(TransactionPathMarker transactions) {
+		return new APlusMarker(this, transactions, duration);
+	}
+	
+	/**
+	 * Create a copy of this marker that holds the given transaction duration
+	 * 
+	 * @param duration the duration of the ended transaction in nanoseconds
+	 * 
+	 * @return the new marker
+	 */
+	public APlusMarker withDuration(long duration) {
+		return new APlusMarker(this, transactions, duration);
+	}
+
+	/**
+	 * @return the bundle name, may be <code>null</code>
+	 */
+	public String getBundleName() {
+		return bundleName;
+	}
+
+	/**
+	 * @return the group name, may be <code>null</code>
+	 */
+	public String getGroupName() {
+		return groupName;
+	}
+
+	/**
+	 * @return if the message is a user message
+	 */
+	public boolean isUserMessage() {
+		return userMessage;
+	}
+
+	/**
+	 * @return if the message begins a transaction
+	 */
+	public boolean beginsTransaction() {
+		return beginsTransaction;
+	}
+
+	/**
+	 * @return if the message ends a transaction
+	 */
+	public boolean endsTransaction() {
+		return endsTransaction;
+	}
+
+	/**
+	 * @return the marker holding the open transactions, may be
+	 *   <code>null</code>
+	 */
+	public TransactionPathMarker getTransactions() {
+		return transactions;
+	}
+
+	/**
+	 * @return the duration of the ended transaction in nanoseconds, a
+	 *   negative value if the message doesn't end a transaction
+	 */
+	public long getDuration() {
+		return duration;
+	}
+
+	/**
+	 * @see Marker#getName()
+	 */
+	@Override
+	public String getName() {
+		return WRAPPER_MARKER_NAME;
+	}
+
+	/**
+	 * @see Marker#add(Marker)
+	 */
+	@Override
+	public void add(Marker reference) {
+		throw new UnsupportedOperationException("Marker is immutable");
+	}
+
+	/**
+	 * @see Marker#remove(Marker)
+	 */
+	@Override
+	public boolean remove(Marker reference) {
+		throw new UnsupportedOperationException("Marker is immutable");
+	}
+
+	/**
+	 * @see Marker#hasChildren()
+	 */
+	@Deprecated
+	@Override
+	public boolean hasChildren() {
+		return hasReferences();
+	}
+
+	/**
+	 * @see Marker#hasReferences()
+	 */
+	@Override
+	public boolean hasReferences() {
+		return !references.isEmpty() || transactions != null;
+	}
+
+	/**
+	 * @see Marker#iterator()
+	 */
+	@SuppressWarnings("rawtypes")
+	@Override
+	public Iterator iterator() {
+		if (transactions == null) {
+			return references.iterator();
+		}
+		
+		List<Marker> refs = new ArrayList<Marker>(references);
+		refs.add(transactions);
+		return Collections.unmodifiableList(refs).iterator();
+	}
+
+	/**
+	 * @see Marker#contains(Marker)
+	 */
+	@Override
+	public boolean contains(Marker other) {
+		if (other == null) {
+			throw new IllegalArgumentException("Other cannot be null");
+		}
+
+		if (this.equals(other)) {
+			return true;
+		}
+
+		for (Marker ref : references) {
+			if (ref.contains(other)) {
+				return true;
+			}
+		}
+		return transactions != null && transactions.contains(other);
+	}
+
+	/**
+	 * @see Marker#contains(String)
+	 */
+	@Override
+	public boolean contains(String name) {
+		if (name == null) {
+			throw new IllegalArgumentException("Other cannot be null");
+		}
+
+		if (WRAPPER_MARKER_NAME.equals(name)) {
+			return true;
+		}
+
+		for (Marker ref : references) {
+			if (ref.contains(name)) {
+				return true;
+			}
+		}
+		return transactions != null && transactions.contains(name);
+	}
+
+	/**
+	 * @see Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return WRAPPER_MARKER_NAME.hashCode();
+	}
+
+	/**
+	 * @see Object#equals(Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (!(obj instanceof Marker))
+			return false;
+		return WRAPPER_MARKER_NAME.equals(((Marker) obj).getName());
+	}
+
+	/**
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString() {
+		if (!hasReferences()) {
+			return WRAPPER_MARKER_NAME;
+		}
+
+		StringBuilder result = new StringBuilder(WRAPPER_MARKER_NAME);
+		result.append(" [ ");
+		for (int i = 0; i < references.size(); i++) {
+			if (i != 0) {
+				result.append(", ");
+			}
+			result.append(references.get(i).getName());
+		}
+		if (transactions != null) {
+			if (!references.isEmpty()) {
+				result.append(", ");
+			}
+			result.append(transactions.getName());
+		}
+		result.append(" ]");
+		return result.toString();
+	}
+
+}
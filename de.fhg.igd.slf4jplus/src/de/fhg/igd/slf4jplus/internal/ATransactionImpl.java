@@ -21,6 +21,8 @@
 
 package de.fhg.igd.slf4jplus.internal;
 
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
 import de.fhg.igd.slf4jplus.ATransaction;
 
 /**
@@ -30,20 +32,34 @@ import de.fhg.igd.slf4jplus.ATransaction;
  */
 public class ATransactionImpl implements ATransaction {
 	
-	private final String identifier;
+	private static final AtomicLongFieldUpdater<ATransactionImpl> DURATION =
+			AtomicLongFieldUpdater.newUpdater(ATransactionImpl.class, "duration");
+	
+	private final CharSequence identifier;
 	
 	private final ALoggerImpl logger;
+	
+	private final LatencyHistogram histogram;
+	
+	private final long startTime;
+	
+	private volatile long duration = -1;
 
 	/**
 	 * Create a log transaction with the given identifier
 	 * 
 	 * @param logger the logger 
 	 * @param identifier the transaction identifier
+	 * @param histogram the histogram to record the transaction duration in,
+	 *   may be <code>null</code>
 	 */
-	ATransactionImpl(ALoggerImpl logger, String identifier) {
+	ATransactionImpl(ALoggerImpl logger, CharSequence identifier,
+			LatencyHistogram histogram) {
 		super();
 		this.identifier = identifier;
 		this.logger = logger;
+		this.histogram = histogram;
+		this.startTime = System.nanoTime();
 	}
 
 	/**
@@ -51,7 +67,7 @@ public class ATransactionImpl implements ATransaction {
 	 */
 	@Override
 	public String getIdentifier() {
-		return identifier;
+		return identifier.toString();
 	}
 
 	/**
@@ -59,9 +75,42 @@ public class ATransactionImpl implements ATransaction {
 	 */
 	@Override
 	public void end() {
+		long duration = Math.max(0, System.nanoTime() - startTime);
+		if (!DURATION.compareAndSet(this, -1, duration)) {
+			// already ended
+			return;
+		}
+		if (histogram != null) {
+			histogram.record(duration);
+		}
 		logger.end(this);
 	}
 
+	/**
+	 * @see ATransaction#close()
+	 */
+	@Override
+	public void close() {
+		end();
+	}
+
+	/**
+	 * @see ATransaction#getElapsedNanos()
+	 */
+	@Override
+	public long getElapsedNanos() {
+		long duration = this.duration;
+		return (duration >= 0) ? duration : System.nanoTime() - startTime;
+	}
+
+	/**
+	 * @see ATransaction#isEnded()
+	 */
+	@Override
+	public boolean isEnded() {
+		return duration >= 0;
+	}
+
 	/**
 	 * @see Object#hashCode()
 	 */
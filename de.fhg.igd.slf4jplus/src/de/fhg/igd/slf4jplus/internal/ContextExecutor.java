@@ -0,0 +1,56 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.internal;
+
+import java.util.concurrent.Executor;
+
+import de.fhg.igd.slf4jplus.TransactionPropagation;
+
+/**
+ * Executor that runs tasks with the open transactions of the thread that
+ * submitted them
+ * 
+ * @author Simon Templer
+ */
+public class ContextExecutor implements Executor {
+	
+	private final Executor executor;
+
+	/**
+	 * Create an executor propagating the transaction context
+	 * 
+	 * @param executor the executor to delegate to
+	 */
+	public ContextExecutor(Executor executor) {
+		super();
+		this.executor = executor;
+	}
+
+	/**
+	 * @see Executor#execute(Runnable)
+	 */
+	@Override
+	public void execute(Runnable command) {
+		executor.execute(TransactionPropagation.wrap(command));
+	}
+
+}
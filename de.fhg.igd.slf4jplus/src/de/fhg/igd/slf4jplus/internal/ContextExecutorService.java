@@ -0,0 +1,173 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import de.fhg.igd.slf4jplus.TransactionPropagation;
+
+/**
+ * Executor service that runs tasks with the open transactions of the thread
+ * that submitted them
+ * 
+ * @author Simon Templer
+ */
+public class ContextExecutorService extends ContextExecutor implements ExecutorService {
+	
+	private final ExecutorService executor;
+
+	/**
+	 * Create an executor service propagating the transaction context
+	 * 
+	 * @param executor the executor service to delegate to
+	 */
+	public ContextExecutorService(ExecutorService executor) {
+		super(executor);
+		this.executor = executor;
+	}
+
+	/**
+	 * @see ExecutorService#shutdown()
+	 */
+	@Override
+	public void shutdown() {
+		executor.shutdown();
+	}
+
+	/**
+	 * @see ExecutorService#shutdownNow()
+	 */
+	@Override
+	public List<Runnable> shutdownNow() {
+		return executor.shutdownNow();
+	}
+
+	/**
+	 * @see ExecutorService#isShutdown()
+	 */
+	@Override
+	public boolean isShutdown() {
+		return executor.isShutdown();
+	}
+
+	/**
+	 * @see ExecutorService#isTerminated()
+	 */
+	@Override
+	public boolean isTerminated() {
+		return executor.isTerminated();
+	}
+
+	/**
+	 * @see ExecutorService#awaitTermination(long, TimeUnit)
+	 */
+	@Override
+	public boolean awaitTermination(long timeout, TimeUnit unit)
+			throws InterruptedException {
+		return executor.awaitTermination(timeout, unit);
+	}
+
+	/**
+	 * @see ExecutorService#submit(Callable)
+	 */
+	@Override
+	public <T> Future<T> submit(Callable<T> task) {
+		return executor.submit(TransactionPropagation.wrap(task));
+	}
+
+	/**
+	 * @see ExecutorService#submit(Runnable, Object)
+	 */
+	@Override
+	public <T> Future<T> submit(Runnable task, T result) {
+		return executor.submit(TransactionPropagation.wrap(task), result);
+	}
+
+	/**
+	 * @see ExecutorService#submit(Runnable)
+	 */
+	@Override
+	public Future<?> submit(Runnable task) {
+		return executor.submit(TransactionPropagation.wrap(task));
+	}
+
+	/**
+	 * @see ExecutorService#invokeAll(Collection)
+	 */
+	@Override
+	public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks)
+			throws InterruptedException {
+		return executor.invokeAll(wrap(tasks));
+	}
+
+	/**
+	 * @see ExecutorService#invokeAll(Collection, long, TimeUnit)
+	 */
+	@Override
+	public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks,
+			long timeout, TimeUnit unit) throws InterruptedException {
+		return executor.invokeAll(wrap(tasks), timeout, unit);
+	}
+
+	/**
+	 * @see ExecutorService#invokeAny(Collection)
+	 */
+	@Override
+	public <T> T invokeAny(Collection<? extends Callable<T>> tasks)
+			throws InterruptedException, ExecutionException {
+		return executor.invokeAny(wrap(tasks));
+	}
+
+	/**
+	 * @see ExecutorService#invokeAny(Collection, long, TimeUnit)
+	 */
+	@Override
+	public <T> T invokeAny(Collection<? extends Callable<T>> tasks,
+			long timeout, TimeUnit unit) throws InterruptedException,
+			ExecutionException, TimeoutException {
+		return executor.invokeAny(wrap(tasks), timeout, unit);
+	}
+	
+	/**
+	 * Wrap the given tasks to run with the current transaction context
+	 * 
+	 * @param tasks the tasks
+	 * 
+	 * @return the wrapped tasks
+	 */
+	private static <T> List<Callable<T>> wrap(Collection<? extends Callable<T>> tasks) {
+		List<Callable<T>> result = new ArrayList<Callable<T>>(tasks.size());
+		for (Callable<T> task : tasks) {
+			result.add(TransactionPropagation.wrap(task));
+		}
+		return result;
+	}
+
+}
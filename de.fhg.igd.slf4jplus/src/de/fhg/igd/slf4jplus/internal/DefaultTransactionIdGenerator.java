@@ -0,0 +1,83 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.internal;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import de.fhg.igd.slf4jplus.TransactionIdGenerator;
+
+/**
+ * Default transaction identifier generator. Creates 128 bit identifiers
+ * consisting of a random node prefix determined once per JVM, a sequence
+ * number reserved per thread and a thread local counter. Generating an
+ * identifier needs no synchronization and no random number.
+ * 
+ * @author Simon Templer
+ */
+public class DefaultTransactionIdGenerator implements TransactionIdGenerator {
+	
+	/**
+	 * Thread local identifier state
+	 */
+	private static class Sequence {
+		
+		private long prefix;
+		
+		private int counter;
+		
+	}
+	
+	private final long node = new SecureRandom().nextLong();
+	
+	private final AtomicLong sequences = new AtomicLong();
+	
+	private final ThreadLocal<Sequence> sequence = new ThreadLocal<Sequence>() {
+
+		@Override
+		protected Sequence initialValue() {
+			Sequence seq = new Sequence();
+			seq.prefix = sequences.getAndIncrement() << 32;
+			return seq;
+		}
+		
+	};
+
+	/**
+	 * @see TransactionIdGenerator#generate(String)
+	 */
+	@Override
+	public CharSequence generate(String name) {
+		Sequence seq = sequence.get();
+		
+		if (seq.counter == -1) {
+			// counter exhausted, reserve a new sequence
+			seq.prefix = sequences.getAndIncrement() << 32;
+			seq.counter = 0;
+		}
+		
+		long low = seq.prefix | (seq.counter++ & 0xFFFFFFFFL);
+		
+		return new TransactionId(name, node, low);
+	}
+
+}
@@ -0,0 +1,196 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.internal;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+import org.slf4j.Marker;
+
+/**
+ * Detached marker whose references are fixed on creation
+ * 
+ * @author Simon Templer
+ */
+public class ImmutableMarker implements Marker {
+
+	private static final long serialVersionUID = 7262532716574843102L;
+
+	private final String name;
+	
+	private final List<Marker> references;
+
+	/**
+	 * Create a marker
+	 * 
+	 * @param name the marker name
+	 * @param references the referenced markers
+	 */
+	public ImmutableMarker(String name, Marker... references) {
+		super();
+		
+		if (name == null) {
+			throw new IllegalArgumentException("A marker name cannot be null");
+		}
+		
+		this.name = name;
+		this.references = Collections.unmodifiableList(Arrays.asList(references.clone()));
+	}
+
+	/**
+	 * @see Marker#getName()
+	 */
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @see Marker#add(Marker)
+	 */
+	@Override
+	public void add(Marker reference) {
+		throw new UnsupportedOperationException("Marker is immutable");
+	}
+
+	/**
+	 * @see Marker#remove(Marker)
+	 */
+	@Override
+	public boolean remove(Marker reference) {
+		throw new UnsupportedOperationException("Marker is immutable");
+	}
+
+	/**
+	 * @see Marker#hasChildren()
+	 */
+	@Deprecated
+	@Override
+	public boolean hasChildren() {
+		return hasReferences();
+	}
+
+	/**
+	 * @see Marker#hasReferences()
+	 */
+	@Override
+	public boolean hasReferences() {
+		return !references.isEmpty();
+	}
+
+	/**
+	 * @see Marker#iterator()
+	 */
+	@SuppressWarnings("rawtypes")
+	@Override
+	public Iterator iterator() {
+		return references.iterator();
+	}
+
+	/**
+	 * @see Marker#contains(Marker)
+	 */
+	@Override
+	public boolean contains(Marker other) {
+		if (other == null) {
+			throw new IllegalArgumentException("Other cannot be null");
+		}
+		
+		if (this.equals(other)) {
+			return true;
+		}
+		
+		for (Marker ref : references) {
+			if (ref.contains(other)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @see Marker#contains(String)
+	 */
+	@Override
+	public boolean contains(String name) {
+		if (name == null) {
+			throw new IllegalArgumentException("Other cannot be null");
+		}
+		
+		if (this.name.equals(name)) {
+			return true;
+		}
+		
+		for (Marker ref : references) {
+			if (ref.contains(name)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @see Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return name.hashCode();
+	}
+
+	/**
+	 * @see Object#equals(Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (!(obj instanceof Marker))
+			return false;
+		return name.equals(((Marker) obj).getName());
+	}
+
+	/**
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString() {
+		if (references.isEmpty()) {
+			return name;
+		}
+		
+		StringBuilder result = new StringBuilder(name);
+		result.append(" [ ");
+		for (int i = 0; i < references.size(); i++) {
+			if (i != 0) {
+				result.append(", ");
+			}
+			result.append(references.get(i).getName());
+		}
+		result.append(" ]");
+		return result.toString();
+	}
+
+}
@@ -0,0 +1,227 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.internal;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import de.fhg.igd.slf4jplus.TransactionStatistics;
+
+/**
+ * Histogram of transaction durations with log-linear buckets: each power of
+ * two range is split into eight equally sized buckets. To reduce contention
+ * the buckets are striped by thread, recording a value doesn't lock or
+ * allocate.
+ * 
+ * @author Simon Templer
+ */
+public class LatencyHistogram implements TransactionStatistics {
+	
+	private static final int SUB_BUCKET_BITS = 3;
+	
+	private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	
+	/**
+	 * Exponent of the largest power of two range with own buckets, larger
+	 * values (more than 78 hours) are recorded in the last bucket
+	 */
+	private static final int MAX_EXPONENT = 47;
+	
+	private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+	
+	/**
+	 * The number of bucket stripes, a power of two
+	 */
+	private static final int STRIPES = (Runtime.getRuntime().availableProcessors() > 1) ? (4) : (1);
+	
+	private final String name;
+	
+	private final AtomicLongArray counts = new AtomicLongArray(STRIPES * BUCKETS);
+	
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Create a histogram
+	 * 
+	 * @param name the transaction message
+	 */
+	public LatencyHistogram(String name) {
+		super();
+		this.name = name;
+	}
+	
+	/**
+	 * Record a transaction duration
+	 * 
+	 * @param nanos the duration in nanoseconds
+	 */
+	public void record(long nanos) {
+		if (nanos < 0) {
+			nanos = 0;
+		}
+		
+		counts.incrementAndGet(stripe() * BUCKETS + getBucket(nanos));
+		
+		long current = max.get();
+		while (nanos > current && !max.compareAndSet(current, nanos)) {
+			current = max.get();
+		}
+	}
+
+	/**
+	 * @return the stripe of the current thread
+	 */
+	private static int stripe() {
+		long id = Thread.currentThread().getId();
+		return (int) ((id ^ (id >>> 16)) & (STRIPES - 1));
+	}
+
+	/**
+	 * @see TransactionStatistics#getName()
+	 */
+	@Override
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @see TransactionStatistics#getCount()
+	 */
+	@Override
+	public long getCount() {
+		long count = 0;
+		for (int i = 0; i < counts.length(); i++) {
+			count += counts.get(i);
+		}
+		return count;
+	}
+
+	/**
+	 * @see TransactionStatistics#getMaxNanos()
+	 */
+	@Override
+	public long getMaxNanos() {
+		return max.get();
+	}
+
+	/**
+	 * @see TransactionStatistics#getPercentileNanos(double)
+	 */
+	@Override
+	public long getPercentileNanos(double percentile) {
+		long[] buckets = new long[BUCKETS];
+		long count = 0;
+		for (int i = 0; i < counts.length(); i++) {
+			long value = counts.get(i);
+			buckets[i % BUCKETS] += value;
+			count += value;
+		}
+		if (count == 0) {
+			return 0;
+		}
+		
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+		long cumulative = 0;
+		for (int bucket = 0; bucket < BUCKETS; bucket++) {
+			cumulative += buckets[bucket];
+			if (cumulative >= rank) {
+				return Math.min(getUpperBound(bucket), max.get());
+			}
+		}
+		return max.get();
+	}
+
+	/**
+	 * @see TransactionStatistics#getP50Nanos()
+	 */
+	@Override
+	public long getP50Nanos() {
+		return getPercentileNanos(50);
+	}
+
+	/**
+	 * @see TransactionStatistics#getP90Nanos()
+	 */
+	@Override
+	public long getP90Nanos() {
+		return getPercentileNanos(90);
+	}
+
+	/**
+	 * @see TransactionStatistics#getP99Nanos()
+	 */
+	@Override
+	public long getP99Nanos() {
+		return getPercentileNanos(99);
+	}
+	
+	/**
+	 * Get the bucket for a value
+	 * 
+	 * @param value the value, not negative
+	 * 
+	 * @return the bucket index
+	 */
+	private static int getBucket(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		
+		int exponent = 63 - Long.numberOfLeadingZeros(value);
+		if (exponent > MAX_EXPONENT) {
+			return BUCKETS - 1;
+		}
+		int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+		return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+	}
+	
+	/**
+	 * Get the largest value recorded in a bucket
+	 * 
+	 * @param bucket the bucket index
+	 * 
+	 * @return the largest value of the bucket
+	 */
+	private static long getUpperBound(int bucket) {
+		if (bucket < SUB_BUCKETS) {
+			return bucket;
+		}
+		if (bucket == BUCKETS - 1) {
+			return Long.MAX_VALUE;
+		}
+		
+		int shift = bucket / SUB_BUCKETS - 1;
+		long lower = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS) << shift;
+		return lower + (1L << shift) - 1;
+	}
+	
+	/**
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return name + " [count=" + getCount() + ", p50=" + getP50Nanos()
+				+ ", p90=" + getP90Nanos() + ", p99=" + getP99Nanos()
+				+ ", max=" + getMaxNanos() + "]";
+	}
+
+}
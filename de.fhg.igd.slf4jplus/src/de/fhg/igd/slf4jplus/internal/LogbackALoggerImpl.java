@@ -0,0 +1,171 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.internal;
+
+import org.slf4j.Marker;
+import org.slf4j.spi.LocationAwareLogger;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.CallerData;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.spi.TurboFilterList;
+import ch.qos.logback.core.spi.FilterReply;
+import de.fhg.igd.slf4jplus.CallerDataMode;
+
+/**
+ * Enhanced logger implementation bound directly to a Logback {@link Logger}.
+ * Instead of delegating through the slf4j location aware logger interface it
+ * creates the {@link LoggingEvent}s itself and passes them to the appenders,
+ * after applying the turbo filters and level checks like Logback would.
+ * The caller data of the events is determined by Logback when it is first
+ * requested, or not at all depending on the {@link CallerDataMode}. The
+ * messages are formatted when first requested, see
+ * {@link LogbackLoggingEvent}.
+ * 
+ * @author Simon Templer
+ */
+public class LogbackALoggerImpl extends ALoggerImpl {
+	
+	private final Logger logger;
+	
+	private final TurboFilterList turboFilters;
+
+	/**
+	 * Create an enhanced logger
+	 * 
+	 * @param logger the internal logger
+	 * @param bundleName the symbolic name of the OSGi bundle originating the
+	 *   messages, may be <code>null</code> if unknown
+	 * @param fqcn the fully qualified class name of the masking logger
+	 */
+	public LogbackALoggerImpl(Logger logger, String bundleName, String fqcn) {
+		super(logger, bundleName, fqcn);
+		
+		this.logger = logger;
+		this.turboFilters = logger.getLoggerContext().getTurboFilterList();
+	}
+
+	/**
+	 * @see ALoggerImpl#isEnabled(int, Marker)
+	 */
+	@Override
+	protected boolean isEnabled(int level, Marker marker) {
+		if (turboFilters.isEmpty()) {
+			// only the level has to be checked
+			return logger.getEffectiveLevel().levelInt <=
+					Level.fromLocationAwareLoggerInteger(level).levelInt;
+		}
+		
+		return super.isEnabled(level, marker);
+	}
+
+	/**
+	 * @see ALoggerImpl#isMarkerSensitive()
+	 */
+	@Override
+	protected boolean isMarkerSensitive() {
+		// only turbo filters evaluate markers
+		return !turboFilters.isEmpty();
+	}
+
+	/**
+	 * @see ALoggerImpl#log(Marker, String, int, String, Object[], Throwable)
+	 */
+	@Override
+	public void log(Marker marker, String fqcn, int level, String msg,
+			Object[] args, Throwable t) {
+		Level eventLevel = Level.fromLocationAwareLoggerInteger(level);
+		if (accept(marker, eventLevel, msg, args, t)) {
+			callAppenders(marker, level, new LogbackLoggingEvent(fqcn, logger,
+					eventLevel, msg, t, args));
+		}
+	}
+
+	/**
+	 * @see ALoggerImpl#logPrimitive(Marker, String, int, String, char, long, char, long)
+	 */
+	@Override
+	protected void logPrimitive(Marker marker, String fqcn, int level,
+			String format, char type1, long bits1, char type2, long bits2) {
+		Level eventLevel = Level.fromLocationAwareLoggerInteger(level);
+		// turbo filters don't get the arguments, they would have to be boxed
+		if (accept(marker, eventLevel, format, null, null)) {
+			LogbackLoggingEvent event = new LogbackLoggingEvent(fqcn, logger,
+					eventLevel, format, null, null);
+			event.setPrimitiveArguments(type1, bits1, type2, bits2);
+			callAppenders(marker, level, event);
+		}
+	}
+	
+	/**
+	 * Determines if a message shall be logged, with the same decision as in
+	 * Logger.filterAndLog
+	 * 
+	 * @param marker the message marker, may be <code>null</code>
+	 * @param level the event level
+	 * @param msg the message or message format
+	 * @param args the format arguments, may be <code>null</code>
+	 * @param t the throwable, may be <code>null</code>
+	 * 
+	 * @return if the message shall be logged
+	 */
+	private boolean accept(Marker marker, Level level, String msg,
+			Object[] args, Throwable t) {
+		if (!turboFilters.isEmpty()) {
+			FilterReply decision = turboFilters.getTurboFilterChainDecision(
+					marker, logger, level, msg, args, t);
+			if (decision == FilterReply.DENY) {
+				return false;
+			}
+			else if (decision == FilterReply.NEUTRAL
+					&& logger.getEffectiveLevel().levelInt > level.levelInt) {
+				return false;
+			}
+			return true;
+		}
+		
+		return logger.getEffectiveLevel().levelInt <= level.levelInt;
+	}
+	
+	/**
+	 * Pass an event to the appenders
+	 * 
+	 * @param marker the message marker, may be <code>null</code>
+	 * @param level the log level, one of the {@link LocationAwareLogger}
+	 *   level constants
+	 * @param event the logging event
+	 */
+	private void callAppenders(Marker marker, int level, LoggingEvent event) {
+		event.setMarker(attachTransactions(marker));
+		
+		CallerDataMode mode = getCallerDataMode();
+		if (mode == CallerDataMode.NONE
+				|| (mode == CallerDataMode.NONE_BELOW_INFO && level < LocationAwareLogger.INFO_INT)) {
+			// prevent the caller data from being determined
+			event.setCallerData(CallerData.EMPTY_CALLER_DATA_ARRAY);
+		}
+
+		logger.callAppenders(event);
+	}
+
+}
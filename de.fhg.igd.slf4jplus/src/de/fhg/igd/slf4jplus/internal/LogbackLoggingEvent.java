@@ -0,0 +1,160 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.internal;
+
+import java.util.Arrays;
+
+import org.slf4j.helpers.MessageFormatter;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.LoggingEvent;
+
+/**
+ * Logging event that formats its message with the {@link ParameterFormatter}
+ * when it is first requested, e.g. by a layout or encoder, instead of
+ * formatting it with the slf4j MessageFormatter on creation. Primitive
+ * arguments are stored without boxing, they are only boxed if the argument
+ * array is requested.
+ * 
+ * @author Simon Templer
+ */
+public class LogbackLoggingEvent extends LoggingEvent {
+	
+	/**
+	 * If the bound slf4j version uses a throwable as last argument as the
+	 * event's throwable even if a placeholder is left for it. Older versions
+	 * format it into the message instead.
+	 */
+	private static final boolean EXTRACT_USED_THROWABLE = MessageFormatter
+			.arrayFormat("{}", new Object[] { new Throwable() }).getThrowable() != null;
+	
+	private String formattedMessage;
+	
+	private char type1 = PrimitiveArguments.NONE;
+	
+	private long bits1;
+	
+	private char type2 = PrimitiveArguments.NONE;
+	
+	private long bits2;
+
+	/**
+	 * Create a logging event. Like for {@link LoggingEvent} a throwable
+	 * as last argument is used as the event's throwable if none is given,
+	 * in the same cases as the bound slf4j {@link MessageFormatter} does.
+	 * 
+	 * @param fqcn the fully qualified class name of the logger class
+	 * @param logger the logger
+	 * @param level the event level
+	 * @param message the message or message format
+	 * @param throwable the throwable, may be <code>null</code>
+	 * @param args the format arguments, may be <code>null</code>
+	 */
+	public LogbackLoggingEvent(String fqcn, Logger logger, Level level,
+			String message, Throwable throwable, Object[] args) {
+		// the arguments are not passed, as they would be formatted right away
+		super(fqcn, logger, level, message,
+				(throwable == null) ? getThrowableCandidate(message, args) : throwable, null);
+		
+		if (args != null) {
+			if (throwable == null && getThrowableCandidate(message, args) != null) {
+				args = Arrays.copyOf(args, args.length - 1);
+			}
+			setArgumentArray(args);
+		}
+	}
+
+	/**
+	 * Set primitive arguments instead of an argument array
+	 * 
+	 * @param type1 the type of the first argument, see {@link PrimitiveArguments}
+	 * @param bits1 the value bits of the first argument
+	 * @param type2 the type of the second argument,
+	 *   {@link PrimitiveArguments#NONE} if there is only one argument
+	 * @param bits2 the value bits of the second argument
+	 */
+	public void setPrimitiveArguments(char type1, long bits1, char type2,
+			long bits2) {
+		this.type1 = type1;
+		this.bits1 = bits1;
+		this.type2 = type2;
+		this.bits2 = bits2;
+	}
+
+	/**
+	 * @see LoggingEvent#getArgumentArray()
+	 */
+	@Override
+	public Object[] getArgumentArray() {
+		Object[] args = super.getArgumentArray();
+		if (args == null && type1 != PrimitiveArguments.NONE) {
+			args = PrimitiveArguments.box(type1, bits1, type2, bits2);
+			setArgumentArray(args);
+		}
+		return args;
+	}
+
+	/**
+	 * @see LoggingEvent#getFormattedMessage()
+	 */
+	@Override
+	public String getFormattedMessage() {
+		if (formattedMessage == null) {
+			Object[] args = super.getArgumentArray();
+			if (args == null && type1 != PrimitiveArguments.NONE) {
+				formattedMessage = ParameterFormatter.format(getMessage(),
+						type1, bits1, type2, bits2);
+			}
+			else {
+				formattedMessage = ParameterFormatter.format(getMessage(), args);
+			}
+		}
+		return formattedMessage;
+	}
+	
+	/**
+	 * Get the throwable passed as last argument, if it is not used for a
+	 * placeholder or the bound slf4j version doesn't care
+	 * 
+	 * @param message the message format, may be <code>null</code>
+	 * @param args the arguments, may be <code>null</code>
+	 * 
+	 * @return the throwable or <code>null</code>
+	 */
+	private static Throwable getThrowableCandidate(String message, Object[] args) {
+		if (args == null || args.length == 0) {
+			return null;
+		}
+		
+		Object last = args[args.length - 1];
+		if (!(last instanceof Throwable)) {
+			return null;
+		}
+		if (!EXTRACT_USED_THROWABLE
+				&& ParameterFormatter.countPlaceholders(message) >= args.length) {
+			return null;
+		}
+		return (Throwable) last;
+	}
+
+}
@@ -0,0 +1,354 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.internal;
+
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.slf4j.helpers.MessageFormatter;
+import org.slf4j.helpers.Util;
+
+/**
+ * Formats messages with <code>{}</code> placeholders the same way as
+ * {@link MessageFormatter}, but appends primitive arguments without boxing
+ * them, reuses a buffer per thread and caches the placeholder positions of
+ * the message formats. Messages with array arguments or a throwable as last
+ * argument are formatted with {@link MessageFormatter}.
+ * 
+ * @author Simon Templer
+ */
+public final class ParameterFormatter {
+	
+	/**
+	 * Placeholder positions of a message format
+	 */
+	private static final class Placeholders {
+		
+		/**
+		 * Start and end positions of the text sections to copy
+		 */
+		private final int[] sections;
+		
+		/**
+		 * The number of sections to copy before each placeholder, the last
+		 * entry is the total number of sections
+		 */
+		private final int[] sectionCounts;
+		
+		/**
+		 * The position after each placeholder, the first entry is zero
+		 */
+		private final int[] resume;
+		
+		/**
+		 * The number of placeholders
+		 */
+		private final int count;
+		
+		/**
+		 * If the format has neither placeholders nor escape characters to
+		 * remove, so it is used as is
+		 */
+		private final boolean verbatim;
+		
+		/**
+		 * Parse a message format
+		 * 
+		 * @param format the message format
+		 */
+		public Placeholders(String format) {
+			int[] sections = new int[8];
+			int[] sectionCounts = new int[4];
+			int[] resume = new int[4];
+			int sectionIndex = 0;
+			int count = 0;
+			
+			int pos = 0;
+			while (true) {
+				int index = format.indexOf(DELIMITER, pos);
+				int end = (index < 0) ? format.length() : index;
+				boolean escaped = index >= 1 && format.charAt(index - 1) == ESCAPE_CHAR;
+				if (escaped) {
+					// the escape character is not copied
+					end--;
+				}
+				
+				if (sectionIndex + 4 > sections.length) {
+					sections = Arrays.copyOf(sections, sections.length * 2);
+				}
+				if (end > pos) {
+					sections[sectionIndex++] = pos;
+					sections[sectionIndex++] = end;
+				}
+				
+				if (index < 0) {
+					break;
+				}
+				
+				if (escaped && !(index >= 2 && format.charAt(index - 2) == ESCAPE_CHAR)) {
+					// escaped placeholder, copy the opening brace
+					sections[sectionIndex++] = index;
+					sections[sectionIndex++] = index + 1;
+					pos = index + 1;
+				}
+				else {
+					if (count + 2 > resume.length) {
+						sectionCounts = Arrays.copyOf(sectionCounts, sectionCounts.length * 2);
+						resume = Arrays.copyOf(resume, resume.length * 2);
+					}
+					sectionCounts[count] = sectionIndex / 2;
+					resume[++count] = index + 2;
+					pos = index + 2;
+				}
+			}
+			sectionCounts[count] = sectionIndex / 2;
+			
+			this.sections = sections;
+			this.sectionCounts = sectionCounts;
+			this.resume = resume;
+			this.count = count;
+			this.verbatim = count == 0 && sectionIndex <= 2
+					&& (sectionIndex == 0 || sections[1] - sections[0] == format.length());
+		}
+		
+		/**
+		 * Append the text before a placeholder
+		 * 
+		 * @param buffer the buffer to append to
+		 * @param format the message format
+		 * @param index the placeholder index
+		 */
+		public void appendBefore(StringBuilder buffer, String format, int index) {
+			int from = (index == 0) ? 0 : sectionCounts[index - 1];
+			appendSections(buffer, format, from, sectionCounts[index]);
+		}
+		
+		/**
+		 * Append the text after the placeholders filled with arguments
+		 * 
+		 * @param buffer the buffer to append to
+		 * @param format the message format
+		 * @param argCount the number of arguments
+		 */
+		public void appendRest(StringBuilder buffer, String format, int argCount) {
+			if (argCount > count) {
+				// like MessageFormatter escaped placeholders are resolved
+				int from = (count == 0) ? 0 : sectionCounts[count - 1];
+				appendSections(buffer, format, from, sectionCounts[count]);
+			}
+			else {
+				buffer.append(format, resume[argCount], format.length());
+			}
+		}
+		
+		private void appendSections(StringBuilder buffer, String format, int from, int to) {
+			for (int i = from; i < to; i++) {
+				buffer.append(format, sections[2 * i], sections[2 * i + 1]);
+			}
+		}
+		
+	}
+	
+	private static final String DELIMITER = "{}";
+	
+	private static final char ESCAPE_CHAR = '\\';
+	
+	/**
+	 * Buffers larger than this are not kept for reuse
+	 */
+	private static final int MAX_BUFFER_SIZE = 4096;
+	
+	/**
+	 * The maximum number of message formats to cache, further formats are
+	 * parsed each time
+	 */
+	private static final int MAX_CACHED_FORMATS = 2048;
+	
+	private static final ThreadLocal<StringBuilder> buffers = new ThreadLocal<StringBuilder>();
+	
+	private static final ConcurrentMap<String, Placeholders> placeholders = new ConcurrentHashMap<String, Placeholders>();
+	
+	private ParameterFormatter() {
+		// static methods only
+	}
+	
+	/**
+	 * Format a message
+	 * 
+	 * @param format the message format, may be <code>null</code>
+	 * @param args the arguments, may be <code>null</code>
+	 * 
+	 * @return the formatted message
+	 */
+	public static String format(String format, Object[] args) {
+		if (format == null || args == null) {
+			return format;
+		}
+		if (args.length > 0 && args[args.length - 1] instanceof Throwable) {
+			return MessageFormatter.arrayFormat(format, args).getMessage();
+		}
+		
+		Placeholders p = getPlaceholders(format);
+		if (p.verbatim) {
+			return format;
+		}
+		int used = Math.min(args.length, p.count);
+		for (int i = 0; i < used; i++) {
+			if (args[i] != null && args[i].getClass().isArray()) {
+				return MessageFormatter.arrayFormat(format, args).getMessage();
+			}
+		}
+		
+		StringBuilder buffer = acquire();
+		for (int i = 0; i < used; i++) {
+			p.appendBefore(buffer, format, i);
+			appendObject(buffer, args[i]);
+		}
+		p.appendRest(buffer, format, args.length);
+		return release(buffer);
+	}
+	
+	/**
+	 * Format a message with primitive arguments
+	 * 
+	 * @param format the message format, may be <code>null</code>
+	 * @param type1 the type of the first argument, see {@link PrimitiveArguments}
+	 * @param bits1 the value bits of the first argument
+	 * @param type2 the type of the second argument,
+	 *   {@link PrimitiveArguments#NONE} if there is only one argument
+	 * @param bits2 the value bits of the second argument
+	 * 
+	 * @return the formatted message
+	 */
+	public static String format(String format, char type1, long bits1,
+			char type2, long bits2) {
+		if (format == null) {
+			return null;
+		}
+		
+		int argCount = (type2 == PrimitiveArguments.NONE) ? (1) : (2);
+		Placeholders p = getPlaceholders(format);
+		if (p.verbatim) {
+			return format;
+		}
+		StringBuilder buffer = acquire();
+		if (p.count >= 1) {
+			p.appendBefore(buffer, format, 0);
+			PrimitiveArguments.append(buffer, type1, bits1);
+		}
+		if (argCount >= 2 && p.count >= 2) {
+			p.appendBefore(buffer, format, 1);
+			PrimitiveArguments.append(buffer, type2, bits2);
+		}
+		p.appendRest(buffer, format, argCount);
+		return release(buffer);
+	}
+	
+	/**
+	 * Count the placeholders in a message format, escaped placeholders are
+	 * not counted
+	 * 
+	 * @param format the message format, may be <code>null</code>
+	 * 
+	 * @return the number of placeholders
+	 */
+	static int countPlaceholders(String format) {
+		if (format == null) {
+			return 0;
+		}
+		return getPlaceholders(format).count;
+	}
+	
+	/**
+	 * Get the placeholder positions for a message format
+	 * 
+	 * @param format the message format
+	 * 
+	 * @return the placeholder positions
+	 */
+	private static Placeholders getPlaceholders(String format) {
+		Placeholders p = placeholders.get(format);
+		if (p == null) {
+			p = new Placeholders(format);
+			if (placeholders.size() < MAX_CACHED_FORMATS) {
+				placeholders.putIfAbsent(format, p);
+			}
+		}
+		return p;
+	}
+	
+	/**
+	 * Append an argument like {@link MessageFormatter} does for non-array
+	 * arguments
+	 * 
+	 * @param buffer the buffer to append to
+	 * @param arg the argument
+	 */
+	private static void appendObject(StringBuilder buffer, Object arg) {
+		if (arg == null) {
+			buffer.append("null");
+			return;
+		}
+		
+		try {
+			buffer.append(arg.toString());
+		} catch (Throwable t) {
+			Util.report("SLF4J: Failed toString() invocation on an object of type ["
+					+ arg.getClass().getName() + "]", t);
+			buffer.append("[FAILED toString()]");
+		}
+	}
+	
+	/**
+	 * Get the buffer of the current thread. The buffer is taken from the
+	 * thread until it is released, so it is not shared if an argument
+	 * logs a message while being formatted.
+	 * 
+	 * @return the empty buffer
+	 */
+	private static StringBuilder acquire() {
+		StringBuilder buffer = buffers.get();
+		if (buffer == null) {
+			return new StringBuilder(256);
+		}
+		buffers.set(null);
+		return buffer;
+	}
+	
+	/**
+	 * Get the buffer content and return the buffer to the current thread
+	 * 
+	 * @param buffer the buffer
+	 * 
+	 * @return the buffer content
+	 */
+	private static String release(StringBuilder buffer) {
+		String result = buffer.toString();
+		if (buffer.capacity() <= MAX_BUFFER_SIZE) {
+			buffer.setLength(0);
+			buffers.set(buffer);
+		}
+		return result;
+	}
+
+}
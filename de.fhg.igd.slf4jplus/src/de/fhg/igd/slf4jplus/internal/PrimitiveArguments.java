@@ -0,0 +1,145 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.internal;
+
+/**
+ * Encodes primitive message arguments as a type and the value bits, so they
+ * can be passed on and formatted without boxing. The types are identified
+ * by their descriptor characters.
+ * 
+ * @author Simon Templer
+ */
+public final class PrimitiveArguments {
+	
+	/**
+	 * Type of an absent argument
+	 */
+	public static final char NONE = 0;
+	
+	public static final char INT = 'I';
+	
+	public static final char LONG = 'J';
+	
+	public static final char FLOAT = 'F';
+	
+	public static final char DOUBLE = 'D';
+	
+	public static final char CHAR = 'C';
+	
+	private PrimitiveArguments() {
+		// static methods only
+	}
+	
+	/**
+	 * Get the bits representing a float argument
+	 * 
+	 * @param value the argument
+	 * 
+	 * @return the value bits
+	 */
+	public static long bits(float value) {
+		return Float.floatToRawIntBits(value);
+	}
+	
+	/**
+	 * Get the bits representing a double argument
+	 * 
+	 * @param value the argument
+	 * 
+	 * @return the value bits
+	 */
+	public static long bits(double value) {
+		return Double.doubleToRawLongBits(value);
+	}
+	
+	/**
+	 * Box an argument, as it would have been boxed if passed as object
+	 * 
+	 * @param type the argument type
+	 * @param bits the value bits
+	 * 
+	 * @return the boxed argument
+	 */
+	public static Object box(char type, long bits) {
+		switch (type) {
+		case INT:
+			return Integer.valueOf((int) bits);
+		case LONG:
+			return Long.valueOf(bits);
+		case FLOAT:
+			return Float.valueOf(Float.intBitsToFloat((int) bits));
+		case DOUBLE:
+			return Double.valueOf(Double.longBitsToDouble(bits));
+		case CHAR:
+			return Character.valueOf((char) bits);
+		default:
+			return null;
+		}
+	}
+	
+	/**
+	 * Box the arguments
+	 * 
+	 * @param type1 the type of the first argument
+	 * @param bits1 the value bits of the first argument
+	 * @param type2 the type of the second argument, {@link #NONE} if there
+	 *   is only one argument
+	 * @param bits2 the value bits of the second argument
+	 * 
+	 * @return the boxed arguments
+	 */
+	public static Object[] box(char type1, long bits1, char type2, long bits2) {
+		if (type2 == NONE) {
+			return new Object[] { box(type1, bits1) };
+		}
+		return new Object[] { box(type1, bits1), box(type2, bits2) };
+	}
+	
+	/**
+	 * Append an argument, with the same result as appending the boxed
+	 * argument's string representation
+	 * 
+	 * @param buffer the buffer to append to
+	 * @param type the argument type
+	 * @param bits the value bits
+	 */
+	public static void append(StringBuilder buffer, char type, long bits) {
+		switch (type) {
+		case INT:
+		case LONG:
+			buffer.append(bits);
+			break;
+		case FLOAT:
+			buffer.append(Float.intBitsToFloat((int) bits));
+			break;
+		case DOUBLE:
+			buffer.append(Double.longBitsToDouble(bits));
+			break;
+		case CHAR:
+			buffer.append((char) bits);
+			break;
+		default:
+			buffer.append("null");
+		}
+	}
+
+}
@@ -0,0 +1,123 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.internal;
+
+import de.fhg.igd.slf4jplus.ALoggerConstants;
+import de.fhg.igd.slf4jplus.ATransaction;
+
+/**
+ * Immutable transaction context, i.e. an open transaction and the context it
+ * was begun in. Contexts can be shared between threads, the transaction path
+ * string and marker are created once per context and then reused.
+ * 
+ * @author Simon Templer
+ */
+public final class TransactionContext implements ALoggerConstants {
+	
+	private final ATransaction transaction;
+	
+	private final TransactionContext parent;
+	
+	private final int depth;
+	
+	private String path;
+	
+	private TransactionPathMarker marker;
+
+	/**
+	 * Create a transaction context
+	 * 
+	 * @param transaction the innermost transaction
+	 * @param parent the context the transaction was begun in, may be
+	 *   <code>null</code>
+	 */
+	TransactionContext(ATransaction transaction, TransactionContext parent) {
+		super();
+		this.transaction = transaction;
+		this.parent = parent;
+		this.depth = (parent == null) ? 1 : parent.depth + 1;
+	}
+
+	/**
+	 * @return the innermost transaction
+	 */
+	public ATransaction getTransaction() {
+		return transaction;
+	}
+
+	/**
+	 * @return the context the transaction was begun in, may be
+	 *   <code>null</code>
+	 */
+	public TransactionContext getParent() {
+		return parent;
+	}
+
+	/**
+	 * @return the number of open transactions
+	 */
+	public int getDepth() {
+		return depth;
+	}
+	
+	/**
+	 * Get the transaction path, i.e. the identifiers of the open transactions
+	 * separated by {@link #MDC_TRANSACTIONS_SEPARATOR}
+	 * 
+	 * @return the transaction path
+	 */
+	public String getPath() {
+		String path = this.path;
+		if (path == null) {
+			if (parent == null) {
+				path = transaction.getIdentifier();
+			}
+			else {
+				path = parent.getPath() + MDC_TRANSACTIONS_SEPARATOR
+						+ transaction.getIdentifier();
+			}
+			this.path = path;
+		}
+		return path;
+	}
+	
+	/**
+	 * Get the marker holding the identifiers of the open transactions
+	 * 
+	 * @return the transaction path marker
+	 */
+	public TransactionPathMarker getMarker() {
+		TransactionPathMarker marker = this.marker;
+		if (marker == null) {
+			String[] identifiers = new String[depth];
+			TransactionContext context = this;
+			for (int i = depth - 1; i >= 0; i--) {
+				identifiers[i] = context.transaction.getIdentifier();
+				context = context.parent;
+			}
+			marker = new TransactionPathMarker(identifiers);
+			this.marker = marker;
+		}
+		return marker;
+	}
+
+}
@@ -0,0 +1,154 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.internal;
+
+/**
+ * 128 bit transaction identifier, its string representation is only created
+ * when it is requested.
+ * 
+ * @author Simon Templer
+ */
+public final class TransactionId implements CharSequence {
+	
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+	
+	private final String name;
+	
+	private final long high;
+	
+	private final long low;
+	
+	private String string;
+
+	/**
+	 * Create a transaction identifier
+	 * 
+	 * @param name the name of the logger beginning the transaction, may be
+	 *   <code>null</code>
+	 * @param high the most significant bits
+	 * @param low the least significant bits
+	 */
+	public TransactionId(String name, long high, long low) {
+		super();
+		this.name = name;
+		this.high = high;
+		this.low = low;
+	}
+
+	/**
+	 * @return the most significant bits of the identifier
+	 */
+	public long getHigh() {
+		return high;
+	}
+
+	/**
+	 * @return the least significant bits of the identifier
+	 */
+	public long getLow() {
+		return low;
+	}
+
+	/**
+	 * @see CharSequence#length()
+	 */
+	@Override
+	public int length() {
+		return toString().length();
+	}
+
+	/**
+	 * @see CharSequence#charAt(int)
+	 */
+	@Override
+	public char charAt(int index) {
+		return toString().charAt(index);
+	}
+
+	/**
+	 * @see CharSequence#subSequence(int, int)
+	 */
+	@Override
+	public CharSequence subSequence(int start, int end) {
+		return toString().subSequence(start, end);
+	}
+
+	/**
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString() {
+		String result = string;
+		if (result == null) {
+			StringBuilder builder = new StringBuilder(
+					((name == null) ? (0) : (name.length() + 1)) + 32);
+			if (name != null) {
+				builder.append(name);
+				builder.append('_');
+			}
+			appendHex(builder, high);
+			appendHex(builder, low);
+			result = builder.toString();
+			// benign race, the string is always the same
+			string = result;
+		}
+		return result;
+	}
+	
+	private static void appendHex(StringBuilder builder, long value) {
+		for (int shift = 60; shift >= 0; shift -= 4) {
+			builder.append(HEX_DIGITS[(int) (value >>> shift) & 0xF]);
+		}
+	}
+
+	/**
+	 * @see Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		long hilo = high ^ low;
+		return ((int) (hilo >> 32)) ^ (int) hilo;
+	}
+
+	/**
+	 * @see Object#equals(Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (getClass() != obj.getClass())
+			return false;
+		TransactionId other = (TransactionId) obj;
+		if (high != other.high || low != other.low)
+			return false;
+		if (name == null) {
+			if (other.name != null)
+				return false;
+		} else if (!name.equals(other.name))
+			return false;
+		return true;
+	}
+
+}
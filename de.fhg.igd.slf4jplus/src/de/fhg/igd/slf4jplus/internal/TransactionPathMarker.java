@@ -0,0 +1,176 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.internal;
+
+import java.util.Collections;
+import java.util.Iterator;
+
+import org.slf4j.Marker;
+
+import de.fhg.igd.slf4jplus.ALoggerConstants;
+
+/**
+ * Immutable marker holding the identifiers of the open transactions when a
+ * message was logged. Instances are shared by all messages logged at the
+ * same transaction depth.
+ * 
+ * @author Simon Templer
+ */
+public class TransactionPathMarker implements Marker, ALoggerConstants {
+
+	private static final long serialVersionUID = 3419316734581442218L;
+	
+	private final String[] identifiers;
+
+	/**
+	 * Create a transaction path marker
+	 * 
+	 * @param identifiers the transaction identifiers, starting with the
+	 *   outermost transaction, the array must not be modified afterwards
+	 */
+	public TransactionPathMarker(String[] identifiers) {
+		super();
+		this.identifiers = identifiers;
+	}
+	
+	/**
+	 * Get the transaction identifiers
+	 * 
+	 * @return a copy of the transaction identifiers, starting with the
+	 *   outermost transaction
+	 */
+	public String[] getIdentifiers() {
+		return identifiers.clone();
+	}
+	
+	/**
+	 * @return the number of transactions
+	 */
+	public int size() {
+		return identifiers.length;
+	}
+
+	/**
+	 * @see Marker#getName()
+	 */
+	@Override
+	public String getName() {
+		return TRANSACTIONS_MARKER_NAME;
+	}
+
+	/**
+	 * @see Marker#add(Marker)
+	 */
+	@Override
+	public void add(Marker reference) {
+		throw new UnsupportedOperationException("Marker is immutable");
+	}
+
+	/**
+	 * @see Marker#remove(Marker)
+	 */
+	@Override
+	public boolean remove(Marker reference) {
+		throw new UnsupportedOperationException("Marker is immutable");
+	}
+
+	/**
+	 * @see Marker#hasChildren()
+	 */
+	@Deprecated
+	@Override
+	public boolean hasChildren() {
+		return false;
+	}
+
+	/**
+	 * @see Marker#hasReferences()
+	 */
+	@Override
+	public boolean hasReferences() {
+		return false;
+	}
+
+	/**
+	 * @see Marker#iterator()
+	 */
+	@SuppressWarnings("rawtypes")
+	@Override
+	public Iterator iterator() {
+		return Collections.emptyList().iterator();
+	}
+
+	/**
+	 * @see Marker#contains(Marker)
+	 */
+	@Override
+	public boolean contains(Marker other) {
+		if (other == null) {
+			throw new IllegalArgumentException("Other cannot be null");
+		}
+		
+		return this.equals(other);
+	}
+
+	/**
+	 * @see Marker#contains(String)
+	 */
+	@Override
+	public boolean contains(String name) {
+		if (name == null) {
+			throw new IllegalArgumentException("Other cannot be null");
+		}
+		
+		return TRANSACTIONS_MARKER_NAME.equals(name);
+	}
+
+	/**
+	 * @see Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return TRANSACTIONS_MARKER_NAME.hashCode();
+	}
+
+	/**
+	 * @see Object#equals(Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj)
+			return true;
+		if (obj == null)
+			return false;
+		if (!(obj instanceof Marker))
+			return false;
+		return TRANSACTIONS_MARKER_NAME.equals(((Marker) obj).getName());
+	}
+
+	/**
+	 * @see Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return TRANSACTIONS_MARKER_NAME;
+	}
+
+}
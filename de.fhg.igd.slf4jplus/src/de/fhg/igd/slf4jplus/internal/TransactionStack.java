@@ -0,0 +1,313 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.internal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+
+import org.slf4j.MDC;
+
+import de.fhg.igd.slf4jplus.ALoggerConstants;
+import de.fhg.igd.slf4jplus.ATransaction;
+
+/**
+ * Stack of the open transactions of a thread. The stack is represented by
+ * the immutable {@link TransactionContext} of its topmost transaction, which
+ * is the only state kept per thread. Child threads start with the context of
+ * their parent thread, it is shared and not copied, so starting a thread
+ * (e.g. a virtual thread or a subtask of a structured scope) costs nothing
+ * for the transactions. The MDC transactions property is only updated on
+ * {@link #updateMDC(TransactionContext)}.<br>
+ * <br>
+ * Transactions may also be bound to a scope with
+ * {@link #runWith(TransactionContext, Runnable)}. The context is then set as
+ * the context of the thread for the duration of the scope. On a JDK
+ * providing <code>java.lang.ScopedValue</code> it is additionally bound to a
+ * scoped value, which subtasks of a structured scope fall back to if they
+ * don't inherit the context of their parent thread. A context set for the
+ * thread, even if it represents no open transactions, always takes
+ * precedence over the scoped value.
+ * 
+ * @author Simon Templer
+ */
+public final class TransactionStack implements ALoggerConstants {
+	
+	/**
+	 * The context of the topmost open transaction per thread, inherited as is
+	 */
+	private static final ThreadLocal<TransactionContext> contexts = new InheritableThreadLocal<TransactionContext>();
+	
+	/**
+	 * Context set for a thread that has no open transactions, to tell it
+	 * apart from a thread where no context was set
+	 */
+	private static final TransactionContext NONE = new TransactionContext(null, null);
+	
+	/**
+	 * Access to the scoped value holding the context of the innermost
+	 * transaction scope. The method handles are only set if
+	 * <code>java.lang.ScopedValue</code> is available, they are constant, so
+	 * calls through them are inlined.
+	 */
+	private static final class Scoped {
+		
+		/**
+		 * If a scoped value is available
+		 */
+		private static final boolean AVAILABLE;
+		
+		/**
+		 * <code>boolean isBound()</code> of the scoped value
+		 */
+		private static final MethodHandle IS_BOUND;
+		
+		/**
+		 * <code>Object get()</code> of the scoped value
+		 */
+		private static final MethodHandle GET;
+		
+		/**
+		 * <code>Object where(Object context)</code> creating a carrier
+		 * binding the scoped value
+		 */
+		private static final MethodHandle WHERE;
+		
+		/**
+		 * <code>void run(Object carrier, Runnable task)</code>
+		 */
+		private static final MethodHandle RUN;
+		
+		static {
+			MethodHandle isBound = null;
+			MethodHandle get = null;
+			MethodHandle where = null;
+			MethodHandle run = null;
+			try {
+				Class<?> scopedValue = Class.forName("java.lang.ScopedValue");
+				Class<?> carrier = Class.forName("java.lang.ScopedValue$Carrier");
+				MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+				
+				// fails if the scoped values are a disabled preview feature
+				Object value = lookup.findStatic(scopedValue, "newInstance",
+						MethodType.methodType(scopedValue)).invoke();
+				
+				isBound = lookup.findVirtual(scopedValue, "isBound",
+						MethodType.methodType(boolean.class)).bindTo(value);
+				get = lookup.findVirtual(scopedValue, "get",
+						MethodType.methodType(Object.class)).bindTo(value);
+				where = lookup.findStatic(scopedValue, "where",
+						MethodType.methodType(carrier, scopedValue, Object.class))
+						.bindTo(value)
+						.asType(MethodType.methodType(Object.class, Object.class));
+				run = lookup.findVirtual(carrier, "run",
+						MethodType.methodType(void.class, Runnable.class))
+						.asType(MethodType.methodType(void.class, Object.class, Runnable.class));
+			} catch (Throwable e) {
+				// scoped values not available
+				isBound = null;
+			}
+			
+			AVAILABLE = isBound != null;
+			IS_BOUND = isBound;
+			GET = get;
+			WHERE = where;
+			RUN = run;
+		}
+		
+		/**
+		 * @return the bound context or <code>null</code>
+		 */
+		public static TransactionContext get() {
+			try {
+				if ((boolean) IS_BOUND.invokeExact()) {
+					return (TransactionContext) (Object) GET.invokeExact();
+				}
+				return null;
+			} catch (RuntimeException e) {
+				throw e;
+			} catch (Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new IllegalStateException(e);
+			}
+		}
+		
+		/**
+		 * Run a task with the scoped value bound to the given context
+		 * 
+		 * @param context the context
+		 * @param task the task
+		 */
+		public static void run(TransactionContext context, Runnable task) {
+			try {
+				Object carrier = (Object) WHERE.invokeExact((Object) context);
+				RUN.invokeExact(carrier, task);
+			} catch (RuntimeException e) {
+				throw e;
+			} catch (Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new IllegalStateException(e);
+			}
+		}
+		
+	}
+	
+	private TransactionStack() {
+		// static methods only
+	}
+	
+	/**
+	 * Get the open transactions of the current thread
+	 * 
+	 * @return the context of the topmost transaction or <code>null</code> if
+	 *   there are no open transactions
+	 */
+	public static TransactionContext current() {
+		TransactionContext context = contexts.get();
+		if (context == null) {
+			// no context set for the thread
+			return Scoped.AVAILABLE ? Scoped.get() : null;
+		}
+		return (context == NONE) ? null : context;
+	}
+	
+	/**
+	 * Run a task in the scope of the given open transactions. Transactions
+	 * begun but not ended by the task are discarded when leaving the scope.
+	 * 
+	 * @param context the context of the topmost transaction of the scope
+	 * @param task the task
+	 */
+	public static void runWith(TransactionContext context, Runnable task) {
+		TransactionContext previous = contexts.get();
+		try {
+			setCurrent(context);
+			if (Scoped.AVAILABLE) {
+				Scoped.run(context, task);
+			}
+			else {
+				task.run();
+			}
+		} finally {
+			if (previous == null) {
+				contexts.remove();
+			}
+			else {
+				contexts.set(previous);
+			}
+		}
+	}
+	
+	/**
+	 * Replace the open transactions of the current thread
+	 * 
+	 * @param context the context of the topmost transaction, may be
+	 *   <code>null</code>
+	 */
+	public static void setCurrent(TransactionContext context) {
+		contexts.set((context == null) ? NONE : context);
+	}
+	
+	/**
+	 * Push a transaction on the stack of the current thread
+	 * 
+	 * @param trans the transaction
+	 * 
+	 * @return the new context of the topmost transaction
+	 */
+	public static TransactionContext push(ATransaction trans) {
+		TransactionContext context = new TransactionContext(trans, current());
+		contexts.set(context);
+		return context;
+	}
+	
+	/**
+	 * Remove the given transaction and all transactions above it from the
+	 * stack of the current thread. Usually the transaction is the topmost.
+	 * 
+	 * @param trans the transaction
+	 * 
+	 * @return if the transaction was found on the stack
+	 */
+	public static boolean remove(ATransaction trans) {
+		for (TransactionContext c = current(); c != null; c = c.getParent()) {
+			if (c.getTransaction().equals(trans)) {
+				setCurrent(c.getParent());
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	/**
+	 * Get the number of open transactions of the current thread
+	 * 
+	 * @return the number of open transactions
+	 */
+	public static int size() {
+		TransactionContext context = current();
+		return (context == null) ? 0 : context.getDepth();
+	}
+	
+	/**
+	 * Update the MDC transactions property if it is set but doesn't reflect
+	 * the given open transactions.
+	 * 
+	 * @param context the context of the topmost transaction, may be
+	 *   <code>null</code>
+	 */
+	public static void refreshMDC(TransactionContext context) {
+		String current = MDC.get(MDC_TRANSACTIONS);
+		if (current != null && current != getPath(context)) {
+			updateMDC(context);
+		}
+	}
+	
+	/**
+	 * Update the MDC transactions property to reflect the given open
+	 * transactions, if it doesn't already.
+	 * 
+	 * @param context the context of the topmost transaction, may be
+	 *   <code>null</code>
+	 */
+	public static void updateMDC(TransactionContext context) {
+		String path = getPath(context);
+		
+		// the path strings are reused, so comparing the references suffices
+		if (MDC.get(MDC_TRANSACTIONS) != path) {
+			if (path == null) {
+				MDC.remove(MDC_TRANSACTIONS);
+			}
+			else {
+				MDC.put(MDC_TRANSACTIONS, path);
+			}
+		}
+	}
+	
+	private static String getPath(TransactionContext context) {
+		return (context == null) ? null : context.getPath();
+	}
+
+}
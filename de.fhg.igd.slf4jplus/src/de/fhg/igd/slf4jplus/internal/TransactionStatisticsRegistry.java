@@ -0,0 +1,100 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+package de.fhg.igd.slf4jplus.internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import de.fhg.igd.slf4jplus.TransactionStatistics;
+
+/**
+ * Registry of the transaction latency histograms, by transaction message
+ * 
+ * @author Simon Templer
+ */
+public class TransactionStatisticsRegistry {
+	
+	/**
+	 * The maximum number of transaction messages to track, transactions with
+	 * other messages are not recorded
+	 */
+	private static final int MAX_HISTOGRAMS = 256;
+	
+	private static final ConcurrentMap<String, LatencyHistogram> histograms = new ConcurrentHashMap<String, LatencyHistogram>();
+	
+	/**
+	 * Get the histogram for the given transaction message, create it if
+	 * necessary
+	 * 
+	 * @param name the transaction message, may be <code>null</code>
+	 * 
+	 * @return the histogram or <code>null</code> if the message is
+	 *   <code>null</code> or too many messages are tracked already
+	 */
+	public static LatencyHistogram getHistogram(String name) {
+		if (name == null) {
+			return null;
+		}
+		
+		LatencyHistogram histogram = histograms.get(name);
+		if (histogram == null && histograms.size() < MAX_HISTOGRAMS) {
+			histogram = new LatencyHistogram(name);
+			LatencyHistogram previous = histograms.putIfAbsent(name, histogram);
+			if (previous != null) {
+				histogram = previous;
+			}
+		}
+		return histogram;
+	}
+	
+	/**
+	 * Get the statistics for the given transaction message
+	 * 
+	 * @param name the transaction message
+	 * 
+	 * @return the statistics or <code>null</code> if there are none
+	 */
+	public static TransactionStatistics getStatistics(String name) {
+		return histograms.get(name);
+	}
+	
+	/**
+	 * Get the statistics of all tracked transaction messages
+	 * 
+	 * @return the transaction statistics
+	 */
+	public static Collection<TransactionStatistics> getStatistics() {
+		return Collections.unmodifiableCollection(
+				new ArrayList<TransactionStatistics>(histograms.values()));
+	}
+	
+	/**
+	 * Remove all statistics
+	 */
+	public static void clear() {
+		histograms.clear();
+	}
+
+}
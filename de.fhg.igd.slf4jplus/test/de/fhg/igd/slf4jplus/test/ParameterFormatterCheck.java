@@ -0,0 +1,165 @@
+// Fraunhofer Institute for Computer Graphics Research (IGD)
+// Department Graphical Information Systems (GIS)
+//
+// Copyright (c) 2010 Fraunhofer IGD
+//
+// This file is part of slf4j-plus.
+//
+// slf4j-plus is free software: you can redistribute
+// it and/or modify it under the terms of the GNU Lesser General Public License
+// as published by the Free Software Foundation, either version 3 of the
+// License, or (at your option) any later version.
+//
+// slf4j-plus is distributed in the hope that it will
+// be useful, but WITHOUT ANY WARRANTY; without even the implied warranty of
+// MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+// GNU Lesser General Public License for more details.
+//
+// You should have received a copy of the GNU Lesser General Public License
+// along with slf4j-plus.
+// If not, see <http://www.gnu.org/licenses/>.
+
+
+package de.fhg.igd.slf4jplus.test;
+
+import java.util.Random;
+
+import org.slf4j.LoggerFactory;
+import org.slf4j.helpers.MessageFormatter;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import de.fhg.igd.slf4jplus.internal.LogbackLoggingEvent;
+import de.fhg.igd.slf4jplus.internal.ParameterFormatter;
+import de.fhg.igd.slf4jplus.internal.PrimitiveArguments;
+
+/**
+ * Checks that the {@link ParameterFormatter} formats messages the same way
+ * as the slf4j {@link MessageFormatter}, including escaped placeholders,
+ * array arguments and a throwable as last argument, and that a
+ * {@link LogbackLoggingEvent} has the same message and throwable as a
+ * Logback {@link LoggingEvent}. Run it with the bundle classes, slf4j and
+ * Logback on the class path, it exits with status 1 if a check fails.
+ * 
+ * @author Simon Templer
+ */
+public class ParameterFormatterCheck {
+	
+	private static final String[] FORMATS = new String[] {
+		"", "message", "{}", "{}{}", "{} {} {}", "a {} b {} c",
+		"\\{}", "\\\\{}", "\\\\\\{}", "a \\{} b {}", "a \\\\{} b {}",
+		"{\\}", "{", "}", "}{", "{{}}", "\\", "a\\b {}", "{} \\{} {}",
+		"trailing escape \\"
+	};
+	
+	private static final Throwable ERROR = new IllegalStateException("error");
+	
+	private static final Object[][] ARGS = new Object[][] {
+		new Object[0],
+		new Object[] { "one" },
+		new Object[] { "one", 2 },
+		new Object[] { "one", 2, 3.0 },
+		new Object[] { null, "two" },
+		new Object[] { new int[] { 1, 2 } },
+		new Object[] { new Object[] { "a", new long[] { 3 } }, 'c' },
+		new Object[] { new boolean[] { true }, new char[] { 'x' },
+				new double[] { 0.5 } },
+		new Object[] { ERROR },
+		new Object[] { "one", ERROR },
+		new Object[] { "one", 2, ERROR },
+		new Object[] { new String[] { "a" }, ERROR }
+	};
+	
+	private static final String ALPHABET = "{}\\a ";
+	
+	private static int checks;
+	
+	private static int failures;
+
+	/**
+	 * Run the checks
+	 * 
+	 * @param args ignored
+	 */
+	public static void main(String[] args) {
+		for (String format : FORMATS) {
+			for (Object[] arguments : ARGS) {
+				checkFormat(format, arguments);
+				checkEvent(format, arguments);
+			}
+			checkPrimitives(format);
+		}
+		
+		Random random = new Random(42);
+		for (int i = 0; i < 10000; i++) {
+			StringBuilder format = new StringBuilder();
+			int length = random.nextInt(12);
+			for (int j = 0; j < length; j++) {
+				format.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+			}
+			checkFormat(format.toString(), ARGS[random.nextInt(ARGS.length)]);
+		}
+		
+		checkFormat(null, ARGS[1]);
+		checkFormat("{}", null);
+		
+		System.out.println(checks + " checks, " + failures + " failed");
+		if (failures > 0) {
+			System.exit(1);
+		}
+	}
+	
+	private static void checkFormat(String format, Object[] args) {
+		String expected = MessageFormatter.arrayFormat(format, args).getMessage();
+		check(format, args, expected, ParameterFormatter.format(format, args));
+	}
+	
+	private static void checkPrimitives(String format) {
+		char[] types = new char[] { PrimitiveArguments.INT, PrimitiveArguments.LONG,
+				PrimitiveArguments.FLOAT, PrimitiveArguments.DOUBLE,
+				PrimitiveArguments.CHAR };
+		long[] bits = new long[] { -42, Long.MIN_VALUE,
+				PrimitiveArguments.bits(1.1f), PrimitiveArguments.bits(-0.0),
+				'x' };
+		for (int i = 0; i < types.length; i++) {
+			Object[] single = new Object[] { PrimitiveArguments.box(types[i], bits[i]) };
+			check(format, single, MessageFormatter.arrayFormat(format, single).getMessage(),
+					ParameterFormatter.format(format, types[i], bits[i],
+							PrimitiveArguments.NONE, 0));
+			
+			for (int j = 0; j < types.length; j++) {
+				Object[] pair = PrimitiveArguments.box(types[i], bits[i], types[j], bits[j]);
+				check(format, pair, MessageFormatter.arrayFormat(format, pair).getMessage(),
+						ParameterFormatter.format(format, types[i], bits[i],
+								types[j], bits[j]));
+			}
+		}
+	}
+	
+	private static void checkEvent(String format, Object[] args) {
+		Logger logger = ((LoggerContext) LoggerFactory.getILoggerFactory())
+				.getLogger(ParameterFormatterCheck.class);
+		LoggingEvent expected = new LoggingEvent(null, logger, Level.INFO,
+				format, null, args);
+		LoggingEvent event = new LogbackLoggingEvent(null, logger, Level.INFO,
+				format, null, args);
+		
+		check(format, args, expected.getFormattedMessage(), event.getFormattedMessage());
+		check(format, args, String.valueOf(expected.getThrowableProxy() != null),
+				String.valueOf(event.getThrowableProxy() != null));
+	}
+	
+	private static void check(String format, Object[] args, String expected,
+			String actual) {
+		checks++;
+		if (expected == null ? actual != null : !expected.equals(actual)) {
+			failures++;
+			System.out.println("format \"" + format + "\" with "
+					+ ((args == null) ? null : args.length) + " arguments: expected \""
+					+ expected + "\" but was \"" + actual + "\"");
+		}
+	}
+
+}